@@ -29,6 +29,7 @@ package io.spine.tools.gradle.jvm.plugin
 import io.spine.tools.code.SourceSetName.Companion.main
 import io.spine.tools.gradle.jvm.plugin.ArtifactMetaExtension.Companion.NAME
 import io.spine.tools.gradle.jvm.plugin.WriteArtifactMeta.Companion.TASK_NAME
+import io.spine.tools.gradle.metrics.BuildMetrics
 import io.spine.tools.gradle.task.JavaTaskName.Companion.processResources
 import io.spine.tools.gradle.task.JavaTaskName.Companion.sourcesJar
 import io.spine.tools.gradle.task.SpineTaskGroup
@@ -156,11 +157,19 @@ public class ArtifactMetaPlugin : Plugin<Project> {
         // Exclude all `test` configurations by default.
         ext.excludeConfigurations.containing("test")
 
+        val metrics = BuildMetrics.register(this)
         val task = tasks.register(TASK_NAME, WriteArtifactMeta::class) { task ->
             task.group = SpineTaskGroup.name
             task.description =
                 "Writes artifact metadata under `META-INF/io.spine` of the resources"
             task.outputDirectory.convention(outputDir)
+            task.artifactGroup.convention(provider { group.toString() })
+            task.artifactId.convention(ext.artifactId)
+            task.artifactVersion.convention(provider { version.toString() })
+            task.discoveredDependencies.convention(provider { discoverDependencies(ext) })
+            task.explicitDependencies.convention(ext.explicitDependencies)
+            task.metrics.set(metrics)
+            task.usesService(metrics)
         }
 
         tasks.named(processResources.value()).configure {
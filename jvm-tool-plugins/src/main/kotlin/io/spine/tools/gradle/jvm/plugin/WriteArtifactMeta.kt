@@ -26,23 +26,34 @@
 
 package io.spine.tools.gradle.jvm.plugin
 
+import io.spine.tools.gradle.metrics.BuildMetrics
 import io.spine.tools.meta.ArtifactMeta
 import io.spine.tools.meta.Dependencies
 import io.spine.tools.meta.MavenArtifact
-import io.spine.tools.meta.Module
 import org.gradle.api.DefaultTask
+import org.gradle.api.Project
 import org.gradle.api.artifacts.Dependency
 import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.provider.ListProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.provider.SetProperty
+import org.gradle.api.tasks.CacheableTask
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.Internal
 import org.gradle.api.tasks.OutputDirectory
 import org.gradle.api.tasks.TaskAction
-import org.gradle.work.DisableCachingByDefault
 
 /**
  * A task that writes artifact [meta-data][ArtifactMeta] of a Gradle project to a file.
  *
  * The file is created as a resource file.
+ *
+ * All the data written by the task is declared as task [inputs][Input].
+ * The values are computed lazily by [ArtifactMetaPlugin], so that the task does
+ * not access the project when executed. This makes the task cacheable, and
+ * compatible with the configuration cache.
  */
-@DisableCachingByDefault(because = "Dependencies or the artifact coordinates may change.")
+@CacheableTask
 public abstract class WriteArtifactMeta : DefaultTask() {
 
     /**
@@ -54,71 +65,97 @@ public abstract class WriteArtifactMeta : DefaultTask() {
          * The name of the task added by the plugin.
          */
         public const val TASK_NAME: String = "writeArtifactMeta"
+
+        private const val WRITE_TIMER = "artifactMeta.write"
+        private const val DEPENDENCIES_COUNTER = "artifactMeta.dependencies"
+        private const val FILE_SIZE_GAUGE = "artifactMeta.fileSize"
     }
 
     /**
-     * The directory that hosts the generated file.
+     * The group of the artifact.
      */
-    @get:OutputDirectory
-    public abstract val outputDirectory: DirectoryProperty
+    @get:Input
+    public abstract val artifactGroup: Property<String>
 
     /**
-     * Writes the dependencies of the project to a file.
+     * The ID of the artifact.
      */
-    @TaskAction
-    public fun writeFile() {
-        outputDirectory.finalizeValue()
+    @get:Input
+    public abstract val artifactId: Property<String>
 
-        val group = project.group.toString()
-        val projectName = project.name
-        val extension = project.extensions.findByType(ArtifactMetaExtension::class.java)
+    /**
+     * The version of the artifact.
+     */
+    @get:Input
+    public abstract val artifactVersion: Property<String>
 
-        // If the `artifactId` is not specified explicitly, use the project name.
-        val artifactId = extension?.artifactId?.orNull ?: projectName
-        val artifact = MavenArtifact(group, artifactId, project.version.toString())
+    /**
+     * Maven coordinates of the dependencies discovered in the project configurations
+     * which are not excluded.
+     */
+    @get:Input
+    public abstract val discoveredDependencies: ListProperty<String>
 
-        val dependencies = collectDependencies()
-        val artifactMeta = ArtifactMeta(artifact, dependencies)
+    /**
+     * Maven coordinates of the dependencies added explicitly.
+     *
+     * @see ArtifactMetaExtension.explicitDependencies
+     */
+    @get:Input
+    public abstract val explicitDependencies: SetProperty<String>
 
-        val outputDir = outputDirectory.get().asFile
-        outputDir.mkdirs()
+    /**
+     * The service recording the time spent on writing the file, and its size.
+     */
+    @get:Internal
+    public abstract val metrics: Property<BuildMetrics>
 
-        val module = Module(group, artifactId)
-        val fileName = ArtifactMeta.resourcePath(module)
-        val file = outputDir.resolve(fileName)
+    /**
+     * The directory that hosts the generated file.
+     */
+    @get:OutputDirectory
+    public abstract val outputDirectory: DirectoryProperty
 
-        artifactMeta.store(file)
+    /**
+     * Writes the dependencies of the project to a file.
+     */
+    @TaskAction
+    public fun writeFile() {
+        val buildMetrics = metrics.get()
+        buildMetrics.time(WRITE_TIMER) {
+            outputDirectory.finalizeValue()
+
+            val artifact = MavenArtifact.of(
+                artifactGroup.get(),
+                artifactId.get(),
+                artifactVersion.get()
+            )
+            val dependencies = collectDependencies()
+            val artifactMeta = ArtifactMeta(artifact, dependencies)
+
+            val outputDir = outputDirectory.get().asFile
+            outputDir.mkdirs()
+
+            val fileName = ArtifactMeta.resourcePath(artifact.module)
+            val file = outputDir.resolve(fileName)
+
+            artifactMeta.store(file)
+            buildMetrics.count(DEPENDENCIES_COUNTER, dependencies.list.size.toLong())
+            buildMetrics.addBytes(FILE_SIZE_GAUGE, file.length())
+        }
     }
 
     /**
-     * Collects all the non-test dependencies of the project.
+     * Merges the discovered and the explicit dependencies.
      */
     private fun collectDependencies(): Dependencies {
-        val extension = project.extensions.findByType(ArtifactMetaExtension::class.java)
-        val cfg = extension!!.excludeConfigurations
-        val excludedByName = cfg.named.orNull ?: emptySet()
-        val excludedBySubstring = cfg.containing.orNull ?: emptySet()
-
-        // Collect from configurations (according to exclusions).
-        val discovered = project.configurations
-            .asSequence()
-            .filter { cfg -> cfg.name !in excludedByName }
-            .filter { cfg ->
-                val lower = cfg.name.lowercase()
-                !excludedBySubstring.any { sub -> lower.contains(sub.lowercase()) }
-            }
-            .flatMap { c -> c.dependencies }
-            .mapNotNull { d -> d.toMavenArtifact() }
-            .toMutableSet()
-
-        // Add explicitly declared dependencies from the extension.
-        val explicitNotations = extension.explicitDependencies.orNull ?: emptySet()
-        explicitNotations.asSequence()
+        val coordinates = discoveredDependencies.get() + explicitDependencies.getOrElse(setOf())
+        val artifacts = coordinates.asSequence()
             .map { MavenArtifact.withCoordinates(it) }
-            .forEach { discovered.add(it) }
+            .toSet()
 
         // Deduplicate by module keeping the artifact with the highest sorting order.
-        val deduplicated = discovered
+        val deduplicated = artifacts
             .groupBy { it.module }
             .values
             .mapNotNull { artifacts -> artifacts.maxWithOrNull(mavenArtifactComparator) }
@@ -127,6 +164,32 @@ public abstract class WriteArtifactMeta : DefaultTask() {
     }
 }
 
+/**
+ * Obtains Maven coordinates of the dependencies declared in
+ * the configurations of this project.
+ *
+ * The configurations are filtered according to the exclusions of the given extension.
+ */
+internal fun Project.discoverDependencies(extension: ArtifactMetaExtension): List<String> {
+    val exclusions = extension.excludeConfigurations
+    val excludedByName = exclusions.named.orNull ?: emptySet()
+    val excludedBySubstring = exclusions.containing.orNull ?: emptySet()
+
+    // Collect from configurations (according to exclusions).
+    return configurations
+        .asSequence()
+        .filter { cfg -> cfg.name !in excludedByName }
+        .filter { cfg ->
+            val lower = cfg.name.lowercase()
+            !excludedBySubstring.any { sub -> lower.contains(sub.lowercase()) }
+        }
+        .flatMap { c -> c.dependencies }
+        .mapNotNull { d -> d.toMavenArtifact()?.coordinates }
+        .distinct()
+        .sorted()
+        .toList()
+}
+
 /**
  * Compares [MavenArtifact] by its attributes.
  *
@@ -157,5 +220,5 @@ private val mavenArtifactComparator: Comparator<MavenArtifact> =
 private fun Dependency.toMavenArtifact(): MavenArtifact? {
     val group = this.group ?: return null
     val version = this.version ?: return null
-    return MavenArtifact(group, this.name, version)
+    return MavenArtifact.of(group, this.name, version)
 }
@@ -114,6 +114,25 @@ class ArtifactMetaPluginSpec {
         hasDependency shouldBe true
     }
 
+    @Test
+    fun `declare the written data as task inputs`() {
+        project.group = "test.group"
+        project.version = "1.2.3"
+        project.pluginManager.apply(pluginClass)
+        project.dependencies.add("implementation", dependencies[0])
+        project.dependencies.add("testImplementation", dependencies[3])
+        project.extensions.getByType(ArtifactMetaExtension::class.java)
+            .addDependencies(dependencies[1])
+
+        val task = project.tasks.getByName(WriteArtifactMeta.TASK_NAME) as WriteArtifactMeta
+
+        task.artifactGroup.get() shouldBe "test.group"
+        task.artifactId.get() shouldBe project.name
+        task.artifactVersion.get() shouldBe "1.2.3"
+        task.discoveredDependencies.get() shouldBe listOf(dependencies[0])
+        task.explicitDependencies.get() shouldBe setOf(dependencies[1])
+    }
+
     /**
      * Verifies that the file with metadata is created under the `build` directory.
      */
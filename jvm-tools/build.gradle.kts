@@ -26,9 +26,11 @@
 
 import io.spine.dependency.build.ErrorProne
 import io.spine.dependency.build.JSpecify
+import io.spine.dependency.test.Jmh
 
 plugins {
     module
+    jmh
 }
 
 dependencies {
@@ -37,3 +39,7 @@ dependencies {
     }
     api(JSpecify.annotations)
 }
+
+jmh {
+    jmhVersion.set(Jmh.version)
+}
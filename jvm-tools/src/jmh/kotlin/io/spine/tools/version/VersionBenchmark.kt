@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.version
+
+import java.util.concurrent.TimeUnit
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Compares parsing and sorting of [Version]s with the split-based approach
+ * used by `Version` before.
+ *
+ * Run with `./gradlew :jvm-tools:jmh`. Add `-prof gc` to JMH arguments to see
+ * the allocation rate of each benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class VersionBenchmark {
+
+    private lateinit var values: List<String>
+    private lateinit var versions: List<Version>
+
+    @Setup
+    fun setUp() {
+        values = (0 until COUNT).map {
+            val preRelease = when (it % 4) {
+                0 -> ""
+                1 -> "-SNAPSHOT.${it % 50}"
+                2 -> "-rc.${it % 7}.build.${it % 13}"
+                else -> "-alpha.${it % 3}"
+            }
+            "${it % 3}.${it % 11}.${it % 17}$preRelease+meta.$it"
+        }
+        versions = values.map { Version.parse(it) }
+    }
+
+    @Benchmark
+    fun parseSinglePass(bh: Blackhole) {
+        values.forEach { bh.consume(Version.parse(it)) }
+    }
+
+    @Benchmark
+    fun parseSplitBased(bh: Blackhole) {
+        values.forEach { bh.consume(SplitBased.parse(it)) }
+    }
+
+    @Benchmark
+    fun sortTokenized(): List<Version> = versions.sorted()
+
+    @Benchmark
+    fun sortSplitBased(): List<Version> = versions.sortedWith(SplitBased.comparator)
+
+    private companion object {
+        const val COUNT = 5_000
+    }
+}
+
+/**
+ * The split-based parsing and comparison of versions serving as the baseline.
+ */
+@Suppress("MagicNumber", "ReturnCount")
+private object SplitBased {
+
+    val comparator: Comparator<Version> = Comparator { a, b ->
+        val numbers = compareValuesBy(a, b, { it.major }, { it.minor }, { it.patch })
+        val first = a.preRelease
+        val second = b.preRelease
+        when {
+            numbers != 0 -> numbers
+            first == null && second != null -> 1
+            first != null && second == null -> -1
+            first != null && second != null -> comparePreRelease(first, second)
+            else -> 0
+        }
+    }
+
+    fun parse(value: String): Version {
+        val buildMetadataSplit = value.split("+", limit = 2)
+        val buildMetadata = if (buildMetadataSplit.size > 1) buildMetadataSplit[1] else null
+        val preReleaseSplit = buildMetadataSplit[0].split("-", limit = 2)
+        val preRelease = if (preReleaseSplit.size > 1) preReleaseSplit[1] else null
+        val numbers = preReleaseSplit[0].split(".")
+        return Version(
+            numbers[0].toInt(),
+            numbers[1].toInt(),
+            numbers[2].toInt(),
+            preRelease,
+            buildMetadata
+        )
+    }
+
+    private fun comparePreRelease(first: String, second: String): Int {
+        val firstParts = first.split(".")
+        val secondParts = second.split(".")
+        val minLength = minOf(firstParts.size, secondParts.size)
+        for (i in 0 until minLength) {
+            val firstPart = firstParts[i]
+            val secondPart = secondParts[i]
+            val firstIsNumeric = firstPart.all { it.isDigit() }
+            val secondIsNumeric = secondPart.all { it.isDigit() }
+            val comparison = when {
+                firstIsNumeric && secondIsNumeric ->
+                    firstPart.toInt().compareTo(secondPart.toInt())
+                firstIsNumeric -> -1
+                secondIsNumeric -> 1
+                else -> firstPart.compareTo(secondPart)
+            }
+            if (comparison != 0) return comparison
+        }
+        return firstParts.size.compareTo(secondParts.size)
+    }
+}
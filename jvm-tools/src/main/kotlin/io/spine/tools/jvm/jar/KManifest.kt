@@ -28,14 +28,19 @@ package io.spine.tools.jvm.jar
 
 import io.spine.tools.jvm.resource.Resource
 import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.IOException
 import java.io.InputStream
 import java.net.JarURLConnection
+import java.net.URISyntaxException
 import java.net.URL
+import java.util.concurrent.ConcurrentHashMap
 import java.util.jar.Attributes
 import java.util.jar.Attributes.Name
 import java.util.jar.Attributes.Name.IMPLEMENTATION_TITLE
 import java.util.jar.Attributes.Name.IMPLEMENTATION_VENDOR
 import java.util.jar.Attributes.Name.IMPLEMENTATION_VERSION
+import java.util.jar.JarFile
 import java.util.jar.Manifest
 import kotlin.text.Charsets.UTF_8
 
@@ -61,10 +66,46 @@ public class KManifest(public val impl: Manifest) {
          */
         public val BUNDLE_DESCRIPTION: Name = Name("Bundle-Description")
 
+        /**
+         * Manifests loaded for classes, by the location of
+         * the [code source][java.security.CodeSource] of the classes.
+         *
+         * Each manifest is stored along with the [FileStamp] of the file it was read from,
+         * so that a manifest is read again when a JAR is rebuilt at the same location.
+         */
+        private val byCodeSource = ConcurrentHashMap<String, Pair<FileStamp, KManifest>>()
+
         /**
          * Loads the manifest next to the given class.
+         *
+         * The manifest is first looked for in the root of the
+         * [code source][java.security.CodeSource] of the class, which is a JAR file or
+         * a directory with compiled classes. If there is no manifest there,
+         * the manifest is searched among all the manifests visible to the class.
+         *
+         * Manifests of local JAR files and directories are cached per code source.
+         * So, loading a manifest for another class from the same code source reads
+         * the manifest again only if its file was modified since. Each call returns
+         * a copy of the cached manifest, which the caller may modify.
          */
         public fun load(cls: Class<*>): KManifest {
+            val root = cls.protectionDomain?.codeSource?.location?.toLocalFile()
+                ?: return loadByResource(cls)
+            val stamp = FileStamp.of(root.manifestFile())
+            val (_, cached) = byCodeSource.compute(root.path) { _, previous ->
+                if (previous != null && previous.first == stamp) {
+                    previous
+                } else {
+                    stamp to (loadFromRoot(root) ?: loadByResource(cls))
+                }
+            }!!
+            return cached.copy()
+        }
+
+        /**
+         * Loads the manifest next to the given class by locating the class as a resource.
+         */
+        private fun loadByResource(cls: Class<*>): KManifest {
             val classResource = cls.toResourceUrl()
             val urlConnection = classResource.openConnection()!!
             if (urlConnection is JarURLConnection) {
@@ -89,6 +130,11 @@ public class KManifest(public val impl: Manifest) {
         }
     }
 
+    /**
+     * Creates a copy of this instance with a copy of the underlying [Manifest].
+     */
+    private fun copy(): KManifest = KManifest(Manifest(impl))
+
     /**
      * Provides access to [main attributes][Manifest.getMainAttributes] of the manifest.
      */
@@ -128,6 +174,68 @@ public class KManifest(public val impl: Manifest) {
     }
 }
 
+/**
+ * The size and the modification time of a file telling if the file was changed.
+ */
+private data class FileStamp(val lastModified: Long, val length: Long) {
+
+    companion object {
+
+        /**
+         * Obtains the stamp of the given file, which is zero for a missing file.
+         */
+        fun of(file: File): FileStamp = FileStamp(file.lastModified(), file.length())
+    }
+}
+
+/**
+ * Obtains the local file or directory this code source location refers to.
+ *
+ * @return the file, or `null` if the location is not a local file.
+ */
+private fun URL.toLocalFile(): File? {
+    if (protocol != "file") {
+        return null
+    }
+    return try {
+        File(toURI())
+    } catch (_: URISyntaxException) {
+        null
+    } catch (_: IllegalArgumentException) {
+        null
+    }
+}
+
+/**
+ * Obtains the file with the manifest of this code source root.
+ *
+ * For a JAR file, it is the JAR itself.
+ */
+private fun File.manifestFile(): File =
+    if (isDirectory) resolve(KManifest.RESOURCE_FILE) else this
+
+/**
+ * Loads the manifest stored in the given root of a code source.
+ *
+ * @return the loaded manifest, or `null` if the root is not a JAR file or
+ *   a directory, if the JAR file cannot be read, or if there is no manifest in it.
+ */
+private fun loadFromRoot(root: File): KManifest? {
+    if (root.isDirectory) {
+        val manifestFile = root.resolve(KManifest.RESOURCE_FILE)
+        return if (manifestFile.isFile) KManifest.load(manifestFile.inputStream()) else null
+    }
+    if (root.isFile) {
+        val manifest = try {
+            JarFile(root).use { it.manifest }
+        } catch (_: IOException) {
+            null
+        }
+        return manifest?.let { KManifest(it) }
+    }
+    return null
+}
+
 /**
  * Obtains URL for obtaining this class as a resource.
  */
@@ -30,7 +30,7 @@ import io.spine.tools.jvm.resource.Resource
 import io.spine.tools.meta.ArtifactMeta.Companion.COMMENT_PREFIX
 import java.io.File
 import java.nio.file.Files
-import java.nio.file.Files.writeString
+import java.nio.file.Files.write
 import java.nio.file.StandardOpenOption.CREATE
 import java.nio.file.StandardOpenOption.TRUNCATE_EXISTING
 import java.nio.file.StandardOpenOption.WRITE
@@ -52,6 +52,10 @@ import java.nio.file.StandardOpenOption.WRITE
  * Later this metadata is used for configuring a project which depends on
  * the artifact described by the instance loaded from the resources.
  *
+ * The metadata can be stored either in the human-readable text form or in the
+ * [compact][Format.COMPACT] binary form. Loading functions recognize the format
+ * automatically.
+ *
  * @param artifact The Maven artifact.
  * @param dependencies The dependencies of the artifact.
  */
@@ -83,7 +87,7 @@ public data class ArtifactMeta(
      * The module is constructed using the [group] and [name] of this artifact.
      */
     public val module: Module
-        get() = Module(group, name)
+        get() = artifact.module
 
     /**
      * Returns the resource path for this artifact.
@@ -119,7 +123,7 @@ public data class ArtifactMeta(
     }
 
     /**
-     * Stores the artifact metadata in the given file.
+     * Stores the artifact metadata in the given file in the [text][Format.TEXT] format.
      * 
      * If the file already exits, it will be overwritten.
      *
@@ -131,14 +135,52 @@ public data class ArtifactMeta(
      * @throws java.io.IOException if an I/O error occurs.
      */
     public fun store(file: File) {
+        store(file, Format.TEXT)
+    }
+
+    /**
+     * Stores the artifact metadata in the given file using the given format.
+     *
+     * If the file already exits, it will be overwritten.
+     *
+     * @param file The file to store the artifact metadata in.
+     * @param format The format of the stored metadata.
+     * @throws IllegalArgumentException if the file is a directory.
+     * @throws java.io.IOException if an I/O error occurs.
+     */
+    public fun store(file: File, format: Format) {
         require(!file.exists() || !file.isDirectory) {
             "Cannot store artifact metadata to the directory: `${file.absolutePath}`."
         }
 
         file.parentFile?.mkdirs()
 
-        val content = toString()
-        writeString(file.toPath(), content, CREATE, TRUNCATE_EXISTING, WRITE)
+        val content = when (format) {
+            Format.TEXT -> toString().toByteArray(Charsets.UTF_8)
+            Format.COMPACT -> CompactMetaFormat.encode(this)
+        }
+        write(file.toPath(), content, CREATE, TRUNCATE_EXISTING, WRITE)
+    }
+
+    /**
+     * Formats of storing artifact metadata.
+     */
+    public enum class Format {
+
+        /**
+         * The human-readable line-oriented format.
+         *
+         * @see ArtifactMeta.toString
+         */
+        TEXT,
+
+        /**
+         * The binary format with length-prefixed strings.
+         *
+         * The format starts with a header which cannot appear in the [TEXT] format.
+         * It is faster to load than [TEXT] for metadata with many dependencies.
+         */
+        COMPACT
     }
 
     public companion object {
@@ -193,8 +235,8 @@ public data class ArtifactMeta(
                 cannotLoad("a directory:", source)
             }
 
-            val lines = Files.readAllLines(file.toPath())
-            return parseLines(lines, source)
+            val bytes = Files.readAllBytes(file.toPath())
+            return parse(bytes, source, skipLeadingBlankLines = false)
         }
 
         /**
@@ -209,9 +251,8 @@ public data class ArtifactMeta(
          */
         public fun loadFromResource(path: String, classLoader: ClassLoader): ArtifactMeta {
             val resource = Resource.file(path, classLoader)
-            val content = resource.read()
-            val lines = content.lines().filter { it.isNotBlank() }
-            return parseLines(lines, "resource: `$path`")
+            val bytes = resource.open().use { it.readAllBytes() }
+            return parse(bytes, "resource: `$path`", skipLeadingBlankLines = true)
         }
 
         /**
@@ -258,47 +299,71 @@ public data class ArtifactMeta(
 }
 
 /**
- * Parses the given lines into an [ArtifactMeta] instance.
+ * Parses the given bytes into an [ArtifactMeta] instance.
  *
- * Lines starting with `#` are treated as comments and are filtered out.
+ * The bytes are treated as the [compact][ArtifactMeta.Format.COMPACT] form if
+ * they start with its header. Otherwise, the bytes are treated as UTF-8 text.
  *
- * @param lines the lines to parse.
- * @param source the source of the lines, used for error messages.
+ * @param bytes The bytes to parse.
+ * @param source The source of the bytes, used for error messages.
+ * @param skipLeadingBlankLines Tells if blank lines before the artifact line of
+ *   the text form are allowed.
  * @return the parsed artifact metadata.
- * @throws IllegalStateException if the lines are empty or are not of the expected format.
  */
-private fun parseLines(lines: List<String>, source: String): ArtifactMeta {
-    // Check if the input is completely empty.
-    require(lines.isNotEmpty()) {
-        ArtifactMeta.cannotLoad("an empty list", source)
-    }
-
-    // Filter out comment lines (lines starting with #)
-    val filteredLines = lines.filter { !it.startsWith(COMMENT_PREFIX) }
-
-    // Check if all lines were comments.
-    require(filteredLines.isNotEmpty()) {
-        ArtifactMeta.cannotLoad("a list with only comments", source)
-    }
-
-    val artifactLine = filteredLines[0]
-    require(artifactLine.startsWith(MavenArtifact.PREFIX)) {
-        "The first line of the $source must be a Maven artifact." +
-                " Encountered: `$artifactLine`."
+private fun parse(bytes: ByteArray, source: String, skipLeadingBlankLines: Boolean): ArtifactMeta =
+    if (CompactMetaFormat.isCompact(bytes)) {
+        CompactMetaFormat.decode(bytes, source)
+    } else {
+        parseText(String(bytes, Charsets.UTF_8), source, skipLeadingBlankLines)
     }
-    val artifact = MavenArtifact.parse(artifactLine)
 
-    val deps = filteredLines.subList(1, filteredLines.size)
-    val dependencies = if (deps.isEmpty()) {
-        Dependencies(emptyList())
-    } else {
-        val nonEmptyDeps = deps.filter { it.isNotEmpty() && it.isNotBlank() }
-        if (nonEmptyDeps.isEmpty()) {
-            Dependencies(emptyList())
-        } else {
-            val dependencyList = nonEmptyDeps.map { parseDependency(it) }
-            Dependencies(dependencyList)
+/**
+ * Parses the given text into an [ArtifactMeta] instance.
+ *
+ * The text is processed line by line in one pass.
+ * Lines starting with `#` are treated as comments and are skipped.
+ * Blank lines after the artifact line are skipped as well.
+ *
+ * Blank lines before the artifact line are skipped only if [skipLeadingBlankLines]
+ * is `true`, which is the case for resources. Otherwise, such a line is rejected
+ * as not being a Maven artifact, as files were always treated.
+ *
+ * @param text The text to parse.
+ * @param source The source of the text, used for error messages.
+ * @param skipLeadingBlankLines Tells if blank lines before the artifact line are allowed.
+ * @return the parsed artifact metadata.
+ * @throws IllegalArgumentException if the text is empty or is not of the expected format.
+ */
+private fun parseText(
+    text: String,
+    source: String,
+    skipLeadingBlankLines: Boolean
+): ArtifactMeta {
+    var artifact: MavenArtifact? = null
+    val dependencies = mutableListOf<Dependency>()
+    var hasComments = false
+    var start = 0
+    while (start < text.length) {
+        val newLine = text.indexOf('\n', start)
+        val end = if (newLine == -1) text.length else newLine
+        val line = text.substring(start, end).trimEnd('\r')
+        start = end + 1
+        when {
+            line.startsWith(COMMENT_PREFIX) -> hasComments = true
+            line.isBlank() && (artifact != null || skipLeadingBlankLines) -> Unit
+            artifact == null -> {
+                require(line.startsWith(MavenArtifact.PREFIX)) {
+                    "The first line of the $source must be a Maven artifact." +
+                            " Encountered: `$line`."
+                }
+                artifact = MavenArtifact.parse(line)
+            }
+            else -> dependencies.add(parseDependency(line))
         }
     }
-    return ArtifactMeta(artifact, dependencies)
+    requireNotNull(artifact) {
+        val wrongInput = if (hasComments) "a list with only comments" else "an empty list"
+        ArtifactMeta.cannotLoad(wrongInput, source)
+    }
+    return ArtifactMeta(artifact, Dependencies(dependencies))
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.meta
+
+import java.io.ByteArrayOutputStream
+import java.nio.BufferUnderflowException
+import java.nio.ByteBuffer
+import kotlin.text.Charsets.UTF_8
+
+/**
+ * The compact binary encoding of [ArtifactMeta].
+ *
+ * The encoded form starts with the [MAGIC] header followed by the [VERSION] byte.
+ * The header allows telling the compact form from the text one produced by
+ * [ArtifactMeta.toString] because a text `.meta` file never contains zero bytes.
+ *
+ * The header is followed by the record of the [artifact][ArtifactMeta.artifact],
+ * the number of dependencies, and the records of the dependencies.
+ *
+ * A record of a [MavenArtifact] is a byte with the [MAVEN] tag, a byte with flags
+ * telling if the classifier and the extension are present, and the length-prefixed
+ * strings of the group, the name, the version, and then, optionally, the classifier
+ * and the extension.
+ *
+ * A dependency of another type is stored as a byte with the [OTHER] tag followed by
+ * the length-prefixed [string form][Dependency.toString] of the dependency.
+ *
+ * Lengths and counts are stored as unsigned variable-length integers
+ * in the little-endian base-128 format. Strings are encoded in UTF-8.
+ */
+internal object CompactMetaFormat {
+
+    /**
+     * The bytes starting the compact form of the artifact metadata.
+     */
+    private val MAGIC = byteArrayOf(0, 'S'.code.toByte(), 'M'.code.toByte(), 'F'.code.toByte())
+
+    /**
+     * The version of the compact format.
+     */
+    private const val VERSION: Byte = 1
+
+    private const val MAVEN: Byte = 1
+    private const val OTHER: Byte = 2
+
+    private const val HAS_CLASSIFIER = 0b01
+    private const val HAS_EXTENSION = 0b10
+
+    private const val SEVEN_BITS = 0x7F
+    private const val CONTINUATION_BIT = 0x80
+    private const val BITS_PER_BYTE = 7
+    private const val MAX_VARINT_SHIFT = 28
+
+    /**
+     * Tells if the given bytes start with the header of the compact format.
+     */
+    fun isCompact(bytes: ByteArray): Boolean {
+        if (bytes.size < MAGIC.size) {
+            return false
+        }
+        for (i in MAGIC.indices) {
+            if (bytes[i] != MAGIC[i]) {
+                return false
+            }
+        }
+        return true
+    }
+
+    /**
+     * Encodes the given artifact metadata into the compact form.
+     */
+    fun encode(meta: ArtifactMeta): ByteArray {
+        val out = ByteArrayOutputStream()
+        out.write(MAGIC)
+        out.write(VERSION.toInt())
+        out.writeArtifact(meta.artifact)
+        val dependencies = meta.dependencies.list
+        out.writeVarInt(dependencies.size)
+        dependencies.forEach {
+            if (it is MavenArtifact) {
+                out.writeArtifact(it)
+            } else {
+                out.write(OTHER.toInt())
+                out.writeString(it.toString())
+            }
+        }
+        return out.toByteArray()
+    }
+
+    /**
+     * Decodes the artifact metadata from the given bytes.
+     *
+     * The strings are decoded directly from the given array without
+     * copying its parts into intermediate buffers.
+     *
+     * @param bytes The bytes starting with the header of the compact format.
+     * @param source The description of the source of the bytes, used for error messages.
+     * @throws IllegalStateException if the bytes are not of the expected format.
+     */
+    fun decode(bytes: ByteArray, source: String): ArtifactMeta {
+        check(isCompact(bytes)) {
+            ArtifactMeta.cannotLoad("non-compact", source)
+        }
+        val buffer = ByteBuffer.wrap(bytes, MAGIC.size, bytes.size - MAGIC.size)
+        try {
+            val version = buffer.get()
+            check(version == VERSION) {
+                ArtifactMeta.cannotLoad("an unsupported compact format version ($version)", source)
+            }
+            val artifact = buffer.readDependency(source)
+            check(artifact is MavenArtifact) {
+                "The first record of the $source must be a Maven artifact." +
+                        " Encountered: `$artifact`."
+            }
+            val count = buffer.readCount(source)
+            val list = ArrayList<Dependency>(count)
+            repeat(count) {
+                list.add(buffer.readDependency(source))
+            }
+            check(!buffer.hasRemaining()) {
+                ArtifactMeta.cannotLoad("trailing bytes in", source)
+            }
+            return ArtifactMeta(artifact, Dependencies(list))
+        } catch (e: BufferUnderflowException) {
+            throw IllegalStateException(ArtifactMeta.cannotLoad("truncated", source), e)
+        }
+    }
+
+    private fun ByteArrayOutputStream.writeArtifact(artifact: MavenArtifact) {
+        write(MAVEN.toInt())
+        var flags = 0
+        if (artifact.classifier != null) {
+            flags = flags or HAS_CLASSIFIER
+        }
+        if (artifact.extension != null) {
+            flags = flags or HAS_EXTENSION
+        }
+        write(flags)
+        writeString(artifact.group)
+        writeString(artifact.name)
+        writeString(artifact.version)
+        artifact.classifier?.let { writeString(it) }
+        artifact.extension?.let { writeString(it) }
+    }
+
+    private fun ByteArrayOutputStream.writeString(value: String) {
+        val bytes = value.toByteArray(UTF_8)
+        writeVarInt(bytes.size)
+        write(bytes)
+    }
+
+    private fun ByteArrayOutputStream.writeVarInt(value: Int) {
+        var remaining = value
+        while (remaining and SEVEN_BITS.inv() != 0) {
+            write((remaining and SEVEN_BITS) or CONTINUATION_BIT)
+            remaining = remaining ushr BITS_PER_BYTE
+        }
+        write(remaining)
+    }
+
+    private fun ByteBuffer.readDependency(source: String): Dependency =
+        when (val tag = get()) {
+            MAVEN -> readArtifact()
+            OTHER -> parseDependency(readString())
+            else -> error(ArtifactMeta.cannotLoad("an unknown record type ($tag) in", source))
+        }
+
+    private fun ByteBuffer.readArtifact(): MavenArtifact {
+        val flags = get().toInt()
+        val group = readString()
+        val name = readString()
+        val version = readString()
+        val classifier = if (flags and HAS_CLASSIFIER != 0) readString() else null
+        val extension = if (flags and HAS_EXTENSION != 0) readString() else null
+        return MavenArtifact.of(group, name, version, classifier, extension)
+    }
+
+    /**
+     * Reads the number of dependency records.
+     *
+     * Each record takes at least one byte, so a valid count never exceeds
+     * the number of the remaining bytes.
+     */
+    private fun ByteBuffer.readCount(source: String): Int {
+        val count = readVarInt()
+        check(count in 0..remaining()) {
+            ArtifactMeta.cannotLoad("an invalid number of dependencies ($count) in", source)
+        }
+        return count
+    }
+
+    private fun ByteBuffer.readString(): String {
+        val length = readVarInt()
+        check(length >= 0) { "Malformed string length: $length." }
+        if (length > remaining()) {
+            throw BufferUnderflowException()
+        }
+        val start = position()
+        position(start + length)
+        return String(array(), arrayOffset() + start, length, UTF_8)
+    }
+
+    private fun ByteBuffer.readVarInt(): Int {
+        var result = 0
+        var shift = 0
+        while (true) {
+            val b = get().toInt()
+            result = result or ((b and SEVEN_BITS) shl shift)
+            if (b and CONTINUATION_BIT == 0) {
+                return result
+            }
+            shift += BITS_PER_BYTE
+            check(shift <= MAX_VARINT_SHIFT) { "Malformed variable-length integer." }
+        }
+    }
+}
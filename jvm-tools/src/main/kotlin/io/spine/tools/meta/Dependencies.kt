@@ -39,6 +39,9 @@ import java.nio.file.StandardOpenOption.WRITE
  *
  * The class allows [parsing][parse] string representations of dependencies.
  *
+ * [MavenArtifact]s are indexed by their [module][MavenArtifact.module] once, when
+ * the instance is created. So, [find] and [findAll] do not scan the [list].
+ *
  * @param list The list of dependencies.
  *   The list must not contain two dependencies that are [MavenArtifact] with
  *   the same [module][Module].
@@ -46,9 +49,10 @@ import java.nio.file.StandardOpenOption.WRITE
  */
 public class Dependencies(public val list: List<Dependency>) {
 
-    init {
-        validateNoDuplicateModules(list)
-    }
+    /**
+     * Maven artifacts from the [list] indexed by their modules.
+     */
+    private val byModule: Map<Module, MavenArtifact> = indexByModule(list)
 
     /**
      * Finds a dependency that represents the given module.
@@ -57,9 +61,23 @@ public class Dependencies(public val list: List<Dependency>) {
      * @return the dependency representing the given module, or
      *   `null` if no such dependency exists.
      */
-    public fun find(module: Module): Dependency? =
-        list.filterIsInstance<MavenArtifact>()
-            .find { it.module == module }
+    public fun find(module: Module): Dependency? = byModule[module]
+
+    /**
+     * Finds dependencies that represent the given modules.
+     *
+     * @param modules The modules to find the dependencies for.
+     * @return the map from a module to the dependency representing it.
+     *   Modules for which no dependency exists are not included into the map.
+     *   The order of the entries follows the order of the given modules.
+     */
+    public fun findAll(modules: Iterable<Module>): Map<Module, Dependency> {
+        val result = LinkedHashMap<Module, Dependency>()
+        modules.forEach { module ->
+            byModule[module]?.let { result[module] = it }
+        }
+        return result
+    }
 
     public companion object {
 
@@ -148,28 +166,48 @@ internal fun parseDependency(value: String): Dependency = when {
 }
 
 /**
- * Validates that there are no duplicate Maven modules in the given list of dependencies.
+ * Indexes [MavenArtifact]s from the given list of dependencies by their modules.
+ *
+ * Dependencies of other types are not indexed.
  *
- * @param list The list of dependencies to validate.
+ * @param list The list of dependencies to index.
+ * @return the map from a module to the artifact which belongs to it.
  * @throws IllegalArgumentException if two [MavenArtifact]s have the same [module][Module].
  */
-private fun validateNoDuplicateModules(list: List<Dependency>) {
-    val moduleToArtifacts = mutableMapOf<Module, MutableList<MavenArtifact>>()
-
-    list.filterIsInstance<MavenArtifact>().forEach { artifact ->
-        val module = artifact.module
-        moduleToArtifacts.computeIfAbsent(module) { mutableListOf() }.add(artifact)
+private fun indexByModule(list: List<Dependency>): Map<Module, MavenArtifact> {
+    val index = HashMap<Module, MavenArtifact>()
+    val duplicates = LinkedHashMap<Module, MutableList<MavenArtifact>>()
+    for (dependency in list) {
+        if (dependency !is MavenArtifact) {
+            continue
+        }
+        val module = dependency.module
+        val existing = index.putIfAbsent(module, dependency)
+        if (existing != null) {
+            duplicates.computeIfAbsent(module) { mutableListOf(existing) }.add(dependency)
+        }
     }
+    if (duplicates.isNotEmpty()) {
+        reportDuplicates(duplicates)
+    }
+    return index
+}
 
-    val duplicatedModules = moduleToArtifacts.filter { it.value.size > 1 }
-    require(duplicatedModules.isEmpty()) {
-        val duplicates = duplicatedModules.entries
-            .joinToString("\n") { (module, duplicates) ->
-                "Duplicated module: `$module`\n" +
-                        "Artifacts:\n" +
-                        duplicates.joinToString("\n") { "  - `$it`" }
-            }
+/**
+ * Rejects the given duplicated modules.
+ *
+ * @param duplicatedModules Modules mapped to the artifacts which belong to them.
+ * @throws IllegalArgumentException always.
+ */
+private fun reportDuplicates(duplicatedModules: Map<Module, List<MavenArtifact>>): Nothing {
+    val duplicates = duplicatedModules.entries
+        .joinToString("\n") { (module, artifacts) ->
+            "Duplicated module: `$module`\n" +
+                    "Artifacts:\n" +
+                    artifacts.joinToString("\n") { "  - `$it`" }
+        }
+    throw IllegalArgumentException(
         "Artifacts with the same module found. Please correct the dependencies.\n" +
                 duplicates
-    }
+    )
 }
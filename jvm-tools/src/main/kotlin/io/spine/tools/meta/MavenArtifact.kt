@@ -32,6 +32,10 @@ import io.spine.tools.util.requireNonEmpty
 /**
  * A dependency on a software artifact stored in a Maven repository.
  *
+ * The [coordinates] of the artifact are computed once, when the instance is created.
+ * They also serve for [hashing][hashCode] and [comparing][compareTo] artifacts.
+ * Use [MavenArtifact.of] for obtaining canonical instances shared across the program.
+ *
  * @param group The group to which the artifact belongs.
  * @param name The ID of the artifact within the group.
  * @param version The version of the artifact.
@@ -53,25 +57,38 @@ public data class MavenArtifact(
     }
 
     /**
-     * The module to which this artifact belongs.
+     * The Maven coordinates of this artifact in the format
+     * "group:name:version[:classifier][@extension]".
      */
-    public val module: Module
-        get() = Module(group, name)
+    public val coordinates: String = buildId(COLON, AT)
 
     /**
-     * The Maven coordinates of this artifact in the format
-     * "group:name:version[:classifier][@extension]".
+     * The cached value of [module].
+     */
+    private var cachedModule: Module? = null
+
+    /**
+     * The cached value of [fileSafeId].
+     */
+    private var cachedFileSafeId: String? = null
+
+    /**
+     * The module to which this artifact belongs.
+     *
+     * The module is the [canonical][Module.of] instance obtained on the first access.
      */
-    public val coordinates: String
-        get() = buildId(COLON, AT)
+    public val module: Module
+        get() = cachedModule ?: Module.of(group, name).also { cachedModule = it }
 
     /**
      * Prints properties of this artifact so that they are used as a file name.
      *
      * Unlike in [coordinates], the properties are separated with the underscore symbol.
+     * The value is computed on the first call and is cached.
      */
     public fun fileSafeId(): String =
-        buildId(FILE_SAFE_SEPARATOR, FILE_SAFE_SEPARATOR)
+        cachedFileSafeId
+            ?: buildId(FILE_SAFE_SEPARATOR, FILE_SAFE_SEPARATOR).also { cachedFileSafeId = it }
 
     /**
      * Prints properties into a string form which can be used as an ID of this artifact.
@@ -122,6 +139,22 @@ public data class MavenArtifact(
          */
         private const val MIN_STRING_NOTATION_PARTS_COUNT = 3
 
+        private val interner = Interner<MavenArtifact>()
+
+        /**
+         * Obtains the canonical instance of the artifact with the given properties.
+         *
+         * Equal artifacts obtained by this method are the same instance.
+         */
+        public fun of(
+            group: String,
+            name: String,
+            version: String,
+            classifier: String? = null,
+            extension: String? = null
+        ): MavenArtifact =
+            interner.intern(MavenArtifact(group, name, version, classifier, extension))
+
         /**
          * Validates and splits Maven coordinates into parts.
          */
@@ -141,11 +174,11 @@ public data class MavenArtifact(
         }
 
         /**
-         * Creates an artifact from the given Maven coordinates string.
+         * Obtains the [canonical][of] artifact from the given Maven coordinates string.
          */
         public fun withCoordinates(coordinates: String): MavenArtifact {
             val (parts, extension) = validateAndSplit(coordinates)
-            return MavenArtifact(
+            return of(
                 group = parts[0],
                 name = parts[1],
                 version = parts[2],
@@ -176,5 +209,11 @@ public data class MavenArtifact(
     /**
      * Compares two artifacts by their [coordinates].
      */
-    override fun compareTo(other: MavenArtifact): Int = coordinates.compareTo(other.coordinates)
+    override fun compareTo(other: MavenArtifact): Int =
+        if (this === other) 0 else coordinates.compareTo(other.coordinates)
+
+    /**
+     * Returns the hash code of the [coordinates], which is cached by the string.
+     */
+    override fun hashCode(): Int = coordinates.hashCode()
 }
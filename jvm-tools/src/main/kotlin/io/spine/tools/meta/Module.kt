@@ -31,6 +31,9 @@ import io.spine.tools.util.requireNonEmpty
 /**
  * A software module with a group and name.
  *
+ * The [identifier] of the module is computed once, when the instance is created.
+ * Use [Module.of] for obtaining canonical instances shared across the program.
+ *
  * @param group The group to which the module belongs.
  * @param name The ID of the module within the group.
  */
@@ -47,8 +50,7 @@ public data class Module(
     /**
      * The module identifier in the format `"group:name"`.
      */
-    public val identifier: String
-        get() = "$group:$name"
+    public val identifier: String = "$group:$name"
 
     /**
      * This module's group and name joined on an underscore symbol (`_`) so
@@ -61,4 +63,22 @@ public data class Module(
      * Returns the [identifier] of the module.
      */
     override fun toString(): String = identifier
+
+    /**
+     * Returns the hash code of the [identifier], which is cached by the string.
+     */
+    override fun hashCode(): Int = identifier.hashCode()
+
+    public companion object {
+
+        private val interner = Interner<Module>()
+
+        /**
+         * Obtains the canonical instance of the module with the given group and name.
+         *
+         * Equal modules obtained by this method are the same instance.
+         */
+        public fun of(group: String, name: String): Module =
+            interner.intern(Module(group, name))
+    }
 }
@@ -28,13 +28,15 @@ package io.spine.tools.version
 
 import io.spine.tools.jvm.jar.KManifest
 import io.spine.tools.meta.ArtifactMeta
-import io.spine.tools.version.Version.Companion.SEPARATOR
 import io.spine.tools.version.Version.Companion.SNAPSHOT
 import java.util.jar.Attributes.Name.IMPLEMENTATION_VERSION
 
 /**
  * A version of a software component following the semantic versioning specification.
  *
+ * Identifiers of the [pre-release][preRelease] part are tokenized once, when
+ * the instance is created. So, [comparing][compareTo] versions does not allocate memory.
+ *
  * @see <a href="https://semver.org/">Semantic Versioning</a>
  */
 public data class Version(
@@ -45,6 +47,11 @@ public data class Version(
     val buildMetadata: String? = null
 ) : Comparable<Version> {
 
+    /**
+     * The tokenized [preRelease] part of this version.
+     */
+    private val preReleaseIds: PreReleaseIdentifiers? = preRelease?.let { PreReleaseIdentifiers(it) }
+
     /**
      * The string representation of this version.
      */
@@ -84,8 +91,8 @@ public data class Version(
         if (preRelease != null && other.preRelease == null) return -1
 
         // Compare pre-release identifiers.
-        if (preRelease != null && other.preRelease != null) {
-            return comparePreRelease(preRelease, other.preRelease)
+        if (preReleaseIds != null && other.preReleaseIds != null) {
+            return preReleaseIds.compareTo(other.preReleaseIds)
         }
 
         // Build metadata does not affect precedence.
@@ -147,46 +154,78 @@ public data class Version(
         /**
          * Parses a version string into a [Version] object.
          *
+         * The string is scanned once, without splitting it into intermediate lists.
+         * Segments following the patch number are ignored.
+         *
          * @param value the version string to parse.
          * @return the parsed [Version] object.
-         * @throws IllegalArgumentException if the version string is not valid.
+         * @throws IllegalStateException if the version string is not valid.
          */
         public fun parse(value: String): Version {
-
-            fun errorMessage(componentName: String, componentValue: String): String = 
-                "The `$componentName` component of the version must be a number: `$componentValue`."
-
-            // Split the version string into its components.
-            val buildMetadataSplit = value.split(BUILD_METADATA_SEPARATOR, limit = 2)
-            val versionWithoutBuildMetadata = buildMetadataSplit[0]
-            val buildMetadata = if (buildMetadataSplit.size > 1) buildMetadataSplit[1] else null
-
-            val preReleaseSplit =
-                versionWithoutBuildMetadata.split(PRE_RELEASE_SEPARATOR, limit = 2)
-            val versionWithoutPreRelease = preReleaseSplit[0]
-            val preRelease = if (preReleaseSplit.size > 1) preReleaseSplit[1] else null
-
-            // Parse the version numbers.
-            val versionNumbers = versionWithoutPreRelease.split(SEPARATOR)
-            check(versionNumbers.size >= 3) { 
-                "A version must have at least major, minor, and patch numbers: `$value`." 
+            val plus = value.indexOf(BUILD_METADATA_SEPARATOR_CHAR)
+            val preReleaseEnd = if (plus == -1) value.length else plus
+            val dash = value.indexOf(PRE_RELEASE_SEPARATOR_CHAR)
+            val numbersEnd = if (dash == -1 || dash > preReleaseEnd) preReleaseEnd else dash
+
+            val majorEnd = value.indexOf(SEPARATOR_CHAR, 0).coerceNotAfter(numbersEnd)
+            val minorEnd = value.indexOf(SEPARATOR_CHAR, majorEnd + 1).coerceNotAfter(numbersEnd)
+            check(majorEnd < numbersEnd && minorEnd < numbersEnd) {
+                "A version must have at least major, minor, and patch numbers: `$value`."
             }
+            val patchEnd = value.indexOf(SEPARATOR_CHAR, minorEnd + 1).coerceNotAfter(numbersEnd)
+
+            val major = value.parseComponent("major", 0, majorEnd)
+            val minor = value.parseComponent("minor", majorEnd + 1, minorEnd)
+            val patch = value.parseComponent("patch", minorEnd + 1, patchEnd)
+
+            val preRelease =
+                if (numbersEnd < preReleaseEnd) value.substring(numbersEnd + 1, preReleaseEnd)
+                else null
+            val buildMetadata =
+                if (plus != -1) value.substring(plus + 1)
+                else null
+            return Version(major, minor, patch, preRelease, buildMetadata)
+        }
+    }
+}
 
-            val majorValue = versionNumbers[0]
-            val major = majorValue.toIntOrNull()
-            check(major != null) { errorMessage("major", majorValue) }
-
-            val minorValue = versionNumbers[1]
-            val minor = minorValue.toIntOrNull()
-            check(minor != null) { errorMessage("minor", minorValue) }
+private const val SEPARATOR_CHAR = '.'
+private const val PRE_RELEASE_SEPARATOR_CHAR = '-'
+private const val BUILD_METADATA_SEPARATOR_CHAR = '+'
+private const val RADIX = 10
 
-            val patchValue = versionNumbers[2]
-            val patch = patchValue.toIntOrNull()
-            check(patch != null) { errorMessage("patch", patchValue) }
+/**
+ * Returns this index, if it is found and is before the given [limit], or the [limit] otherwise.
+ */
+private fun Int.coerceNotAfter(limit: Int): Int =
+    if (this == -1 || this > limit) limit else this
 
-            return Version(major, minor, patch, preRelease, buildMetadata)
+/**
+ * Parses a non-negative decimal number located in this string between
+ * the [start] (inclusive) and the [end] (exclusive) indexes.
+ *
+ * @param name The name of the version component, used in the error message.
+ * @throws IllegalStateException if the region is empty, contains non-digit characters,
+ *   or represents a number which does not fit into `Int`.
+ */
+private fun String.parseComponent(name: String, start: Int, end: Int): Int {
+    var result = 0L
+    var valid = start < end
+    var i = start
+    while (valid && i < end) {
+        val digit = this[i].digitToIntOrNull(RADIX)
+        if (digit == null) {
+            valid = false
+        } else {
+            result = result * RADIX + digit
+            valid = result <= Int.MAX_VALUE
         }
+        i++
+    }
+    check(valid) {
+        "The `$name` component of the version must be a number: `${substring(start, end)}`."
     }
+    return result.toInt()
 }
 
 private val String?.containsSnapshot: Boolean
@@ -198,44 +237,136 @@ private fun comparePart(first: Int, second: Int): Int? {
 }
 
 /**
- * Compares two pre-release version strings according to semantic versioning rules.
+ * Dot-separated identifiers of the pre-release part of a version.
  *
- * @param first The first pre-release string to compare.
- * @param second The second pre-release string to compare.
- * @return a negative integer, zero, or a positive integer as the first pre-release
- *   is less than, equal to, or greater than the second pre-release.
+ * The identifiers are located once, when the instance is created.
+ * Identifiers are not copied into separate strings, but are referenced by
+ * their bounds in the [value]. Comparison of two instances does not allocate memory.
+ *
+ * @param value The pre-release part of a version.
  */
-@Suppress("ReturnCount")
-private fun comparePreRelease(first: String, second: String): Int {
-    val firstParts = first.split(SEPARATOR)
-    val secondParts = second.split(SEPARATOR)
-
-    // Compare each identifier.
-    val minLength = minOf(firstParts.size, secondParts.size)
-    for (i in 0 until minLength) {
-        val firstPart = firstParts[i]
-        val secondPart = secondParts[i]
-
-        // Numeric identifiers always have lower precedence than non-numeric identifiers.
-        val firstIsNumeric = firstPart.all { it.isDigit() }
-        val secondIsNumeric = secondPart.all { it.isDigit() }
-
-        if (firstIsNumeric && secondIsNumeric) {
-            // Compare as integers
-            val numComparison = firstPart.toInt().compareTo(secondPart.toInt())
-            if (numComparison != 0) return numComparison
-        } else if (firstIsNumeric) {
-            return -1
-        } else if (secondIsNumeric) {
-            return 1
-        } else {
-            // Compare lexically.
-            val lexicalComparison = firstPart.compareTo(secondPart)
-            if (lexicalComparison != 0) return lexicalComparison
+internal class PreReleaseIdentifiers(private val value: String) :
+    Comparable<PreReleaseIdentifiers> {
+
+    /**
+     * The start indexes of the identifiers in the [value].
+     */
+    private val starts: IntArray
+
+    /**
+     * The end indexes (exclusive) of the identifiers in the [value].
+     */
+    private val ends: IntArray
+
+    /**
+     * Tells if an identifier with the corresponding index consists only of digits.
+     */
+    private val numeric: BooleanArray
+
+    init {
+        var count = 1
+        value.forEach { if (it == SEPARATOR_CHAR) count++ }
+        starts = IntArray(count)
+        ends = IntArray(count)
+        numeric = BooleanArray(count)
+        var start = 0
+        for (i in 0 until count) {
+            var end = value.indexOf(SEPARATOR_CHAR, start)
+            if (end == -1) {
+                end = value.length
+            }
+            starts[i] = start
+            ends[i] = end
+            numeric[i] = value.allDigits(start, end)
+            start = end + 1
+        }
+    }
+
+    /**
+     * Compares pre-release identifiers according to semantic versioning rules.
+     *
+     * @return a negative integer, zero, or a positive integer as these identifiers
+     *   are less than, equal to, or greater than the given ones.
+     */
+    @Suppress("ReturnCount")
+    override fun compareTo(other: PreReleaseIdentifiers): Int {
+        // Compare each identifier.
+        val minLength = minOf(starts.size, other.starts.size)
+        for (i in 0 until minLength) {
+            val firstIsNumeric = numeric[i]
+            val secondIsNumeric = other.numeric[i]
+            // Numeric identifiers always have lower precedence than non-numeric identifiers.
+            val comparison = when {
+                firstIsNumeric && secondIsNumeric -> compareNumeric(i, other)
+                firstIsNumeric -> -1
+                secondIsNumeric -> 1
+                else -> compareLexically(i, other)
+            }
+            if (comparison != 0) return comparison
+        }
+
+        // If all identifiers are equal up to the length of the shorter one,
+        // the longer set of identifiers has a higher precedence.
+        return starts.size.compareTo(other.starts.size)
+    }
+
+    /**
+     * Compares the numeric identifiers with the given index by their values.
+     *
+     * The identifiers are compared without conversion to numbers, so that
+     * identifiers of any length are supported.
+     */
+    private fun compareNumeric(index: Int, other: PreReleaseIdentifiers): Int {
+        val start = value.skipZeros(starts[index], ends[index])
+        val otherStart = other.value.skipZeros(other.starts[index], other.ends[index])
+        val length = ends[index] - start
+        val otherLength = other.ends[index] - otherStart
+        if (length != otherLength) {
+            return length.compareTo(otherLength)
+        }
+        return compareRegions(start, other, otherStart, length)
+    }
+
+    /**
+     * Compares the identifiers with the given index lexically in the ASCII sort order.
+     */
+    private fun compareLexically(index: Int, other: PreReleaseIdentifiers): Int {
+        val length = ends[index] - starts[index]
+        val otherLength = other.ends[index] - other.starts[index]
+        val comparison =
+            compareRegions(starts[index], other, other.starts[index], minOf(length, otherLength))
+        return if (comparison != 0) comparison else length.compareTo(otherLength)
+    }
+
+    private fun compareRegions(
+        start: Int,
+        other: PreReleaseIdentifiers,
+        otherStart: Int,
+        length: Int
+    ): Int {
+        for (i in 0 until length) {
+            val comparison = value[start + i].compareTo(other.value[otherStart + i])
+            if (comparison != 0) return comparison
         }
+        return 0
+    }
+}
+
+private fun String.allDigits(start: Int, end: Int): Boolean {
+    for (i in start until end) {
+        if (!this[i].isDigit()) return false
     }
+    return true
+}
 
-    // If all identifiers are equal up to the length of the shorter one,
-    // the longer set of identifiers has a higher precedence.
-    return firstParts.size.compareTo(secondParts.size)
+/**
+ * Returns the index of the first non-zero character in the given region of this string,
+ * or the [end] of the region if it contains only zeros.
+ */
+private fun String.skipZeros(start: Int, end: Int): Int {
+    var i = start
+    while (i < end && this[i] == '0') {
+        i++
+    }
+    return i
 }
@@ -31,10 +31,13 @@ import io.kotest.matchers.Matcher
 import io.kotest.matchers.shouldBe
 import io.kotest.matchers.shouldNot
 import io.kotest.matchers.string.beEmpty
+import java.net.URLClassLoader
 import java.nio.file.Files.createFile
 import java.nio.file.Path
+import kotlin.io.path.createDirectories
 import kotlin.io.path.outputStream
 import kotlin.io.path.readText
+import kotlin.io.path.writeText
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.io.TempDir
@@ -71,6 +74,38 @@ class KManifestSpec {
         manifest.toString() shouldNot beEmpty()
     }
 
+    @Test
+    fun `return a copy of the cached manifest`() {
+        val manifest = KManifest.load(KManifest::class.java)
+        val another = KManifest.load(KManifest::class.java)
+
+        (another.impl === manifest.impl) shouldBe false
+        another.impl shouldBe manifest.impl
+
+        manifest.impl.mainAttributes.putValue("Modified-By-Test", "true")
+        another.impl.mainAttributes.getValue("Modified-By-Test") shouldBe null
+    }
+
+    @Test
+    fun `read the manifest again when it changes`(@TempDir classes: Path) {
+        val classFile = classes.resolve("io/spine/tools/jvm/jar/KManifest.class")
+        classFile.parent.createDirectories()
+        KManifest::class.java.getResourceAsStream("KManifest.class")!!.use {
+            classFile.outputStream().use(it::copyTo)
+        }
+        val manifestFile = classes.resolve(KManifest.RESOURCE_FILE)
+        manifestFile.parent.createDirectories()
+        val cls = URLClassLoader(arrayOf(classes.toUri().toURL()), null)
+            .loadClass(KManifest::class.java.name)
+
+        manifestFile.writeText("Manifest-Version: 1.0\nImplementation-Title: first\n")
+        KManifest.load(cls).implementationTitle shouldBe "first"
+
+        manifestFile.writeText("Manifest-Version: 1.0\nImplementation-Title: second\n")
+        manifestFile.toFile().setLastModified(System.currentTimeMillis() + 10_000)
+        KManifest.load(cls).implementationTitle shouldBe "second"
+    }
+
     @Test
     fun `print its content to string as if it were a resource file`(@TempDir tmpDir: Path) {
         val cls = KManifest::class.java
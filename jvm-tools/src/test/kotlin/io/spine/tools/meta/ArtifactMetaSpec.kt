@@ -26,8 +26,8 @@
 
 package io.spine.tools.meta
 
-import io.kotest.matchers.shouldBe
 import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
 import io.spine.tools.meta.ArtifactMeta.Companion.FILE_EXTENSION
 import io.spine.tools.meta.ArtifactMeta.Companion.RESOURCE_DIRECTORY
 import io.spine.tools.meta.ArtifactMeta.Companion.resourcePath
@@ -170,6 +170,67 @@ internal class ArtifactMetaSpec {
             }
         }
 
+        @Test
+        fun `store and load in the compact format`() {
+            val file = tempDir.resolve(DEPS_FILE).toFile()
+            val withClassifier = MavenArtifact("io.spine", "base", "2.0.0", "tests", "jar")
+            val meta = ArtifactMeta(
+                toolBase,
+                Dependencies(listOf(coreJava, gradleWrapper, withClassifier))
+            )
+
+            meta.store(file, ArtifactMeta.Format.COMPACT)
+
+            val loaded = ArtifactMeta.load(file)
+
+            loaded shouldBe meta
+        }
+
+        @Test
+        fun `store the compact format with the header and the version`() {
+            val text = tempDir.resolve("text.meta").toFile()
+            val compact = tempDir.resolve("compact.meta").toFile()
+
+            artifactMeta.store(text)
+            artifactMeta.store(compact, ArtifactMeta.Format.COMPACT)
+
+            val bytes = compact.readBytes()
+            bytes.copyOf(5).toList() shouldBe listOf<Byte>(0, 'S'.code.toByte(),
+                'M'.code.toByte(), 'F'.code.toByte(), 1)
+            CompactMetaFormat.isCompact(bytes) shouldBe true
+            CompactMetaFormat.isCompact(text.readBytes()) shouldBe false
+            ArtifactMeta.load(compact) shouldBe artifactMeta
+            ArtifactMeta.load(text) shouldBe artifactMeta
+        }
+
+        @Test
+        fun `reject a negative number of dependencies in a compact file`() {
+            val file = tempDir.resolve(DEPS_FILE).toFile()
+            val artifact = byteArrayOf(1, 0, 1, 'g'.code.toByte(), 1, 'n'.code.toByte(),
+                1, 'v'.code.toByte())
+            val minusOne = byteArrayOf(-1, -1, -1, -1, 0x0F)
+            file.writeBytes(
+                byteArrayOf(0, 'S'.code.toByte(), 'M'.code.toByte(), 'F'.code.toByte(), 1) +
+                        artifact + minusOne
+            )
+
+            assertThrows<IllegalStateException> {
+                ArtifactMeta.load(file)
+            }
+        }
+
+        @Test
+        fun `reject a truncated compact file`() {
+            val file = tempDir.resolve(DEPS_FILE).toFile()
+            artifactMeta.store(file, ArtifactMeta.Format.COMPACT)
+            val bytes = file.readBytes()
+            file.writeBytes(bytes.copyOf(bytes.size - 1))
+
+            assertThrows<IllegalStateException> {
+                ArtifactMeta.load(file)
+            }
+        }
+
         @Test
         fun `overwrite an existing file`() {
             val file = tempDir.resolve("overwrite.meta").toFile()
@@ -258,6 +319,16 @@ internal class ArtifactMetaSpec {
             }
         }
 
+        @Test
+        fun `first line of a file is blank`() {
+            val file = tempDir.resolve("leading-blank.txt").toFile()
+            Files.write(file.toPath(), listOf("", toolBase.toString()))
+
+            assertThrows<IllegalArgumentException> {
+                ArtifactMeta.load(file)
+            }
+        }
+
         @Test
         fun `handle blank lines after artifact`() {
             val file = tempDir.resolve("blank-deps.txt").toFile()
@@ -178,6 +178,25 @@ internal class DependenciesSpec {
 
             found shouldBe null
         }
+
+        @Test
+        fun `several modules at once`() {
+            val toolBase = MavenArtifact("io.spine.tools", "tool-base", "2.0.0")
+            val coreJava = MavenArtifact("io.spine", "core-java", "2.0.1")
+            val ivyDep = IvyDependency("org.gradle", "wrapper", "7.4.2")
+            val nonExistingModule = Module("io.spine", "base")
+
+            val dependencies = Dependencies(listOf(toolBase, ivyDep, coreJava))
+
+            val found = dependencies.findAll(
+                listOf(coreJava.module, nonExistingModule, toolBase.module)
+            )
+
+            found shouldBe mapOf(
+                coreJava.module to coreJava,
+                toolBase.module to toolBase
+            )
+        }
     }
 
     @Nested
@@ -190,4 +190,22 @@ class MavenArtifactSpec {
         (b.compareTo(a) > 0) shouldBe true
         a.compareTo(MavenArtifact("io.spine", "aaa", "1.0.0")) shouldBe 0
     }
+
+    @Test
+    fun `provide canonical instances`() {
+        val a = MavenArtifact.of("io.spine", "tool-base", "2.0.0", "tests")
+        val b = MavenArtifact.of("io.spine", "tool-base", "2.0.0", "tests")
+
+        (a === b) shouldBe true
+        (MavenArtifact.withCoordinates("io.spine:tool-base:2.0.0:tests") === a) shouldBe true
+        a shouldBe MavenArtifact("io.spine", "tool-base", "2.0.0", "tests")
+    }
+
+    @Test
+    fun `provide the canonical module`() {
+        val ma = MavenArtifact("io.spine", "tool-base", "2.0.0")
+
+        (ma.module === Module.of("io.spine", "tool-base")) shouldBe true
+        (ma.module === ma.module) shouldBe true
+    }
 }
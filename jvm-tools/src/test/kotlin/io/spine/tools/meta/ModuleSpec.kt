@@ -94,4 +94,16 @@ class ModuleSpec {
 
         module.fileSafeId shouldBe "${group}_${name}"
     }
+
+    @Test
+    fun `provide canonical instances`() {
+        val group = randomString()
+        val name = randomString()
+
+        val module = Module.of(group, name)
+
+        (Module.of(group, name) === module) shouldBe true
+        module shouldBe Module(group, name)
+        module.hashCode() shouldBe Module(group, name).hashCode()
+    }
 }
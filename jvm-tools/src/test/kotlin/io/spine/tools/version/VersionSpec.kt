@@ -208,6 +208,27 @@ class VersionSpec {
             shouldThrow<IllegalStateException> {
                 Version.parse("1.a.3")
             }
+
+            shouldThrow<IllegalStateException> {
+                Version.parse("1..3")
+            }
+
+            shouldThrow<IllegalStateException> {
+                Version.parse("1.2-alpha.3")
+            }
+
+            shouldThrow<IllegalStateException> {
+                Version.parse("1.2.99999999999")
+            }
+        }
+
+        @Test
+        fun `treat hyphens in build metadata as a part of it`() {
+            Version.parse("1.2.3+build-7").let {
+                it.patch shouldBe 3
+                it.preRelease shouldBe null
+                it.buildMetadata shouldBe "build-7"
+            }
         }
 
         @Test
@@ -334,6 +355,15 @@ class VersionSpec {
             (Version(1, 2, 3, "alpha.1") < Version(1, 2, 3, "alpha.2")) shouldBe true
         }
 
+        @Test
+        fun `pre-release identifiers by numeric value of any length`() {
+            (Version(1, 2, 3, "rc.10") > Version(1, 2, 3, "rc.9")) shouldBe true
+            (Version(1, 2, 3, "rc.007") > Version(1, 2, 3, "rc.6")) shouldBe true
+            Version(1, 2, 3, "rc.01").compareTo(Version(1, 2, 3, "rc.1")) shouldBe 0
+            (Version(1, 2, 3, "rc.99999999999999999999") >
+                    Version(1, 2, 3, "rc.99999999999999999998")) shouldBe true
+        }
+
         @Test
         fun `pre-release identifiers lexically`() {
             (Version(1, 2, 3, "beta") > Version(1, 2, 3, "alpha")) shouldBe true
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle.task;
+
+import io.spine.annotation.Internal;
+import org.gradle.api.Action;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.gradle.workers.WorkerExecutor;
+
+import javax.inject.Inject;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A task action which submits work, such as code generation, to a worker
+ * of the Gradle Worker API.
+ *
+ * <p>Work submitted by different tasks runs in parallel, as the {@code --max-workers}
+ * setting and the worker leases of the build permit.
+ *
+ * <p>The work runs in an {@linkplain WorkerExecutor#classLoaderIsolation() isolated
+ * classloader}, so it cannot refer to the project or to the task. Everything the work
+ * needs is resolved by the {@code parameters} action, which is executed by this action
+ * on the thread of the task. The parameters may only hold serializable values, such as
+ * files and strings. For example:
+ * <pre>{@code
+ * var action = ActionInWorker.submitting(project, GenerateCode.class, parameters -> {
+ *     parameters.getDescriptorSetFile().set(descriptorSetFile(project, ssn));
+ *     parameters.getTargetDir().set(targetDir);
+ * });
+ * GradleTask.newBuilder(generateCode, action)
+ *           .insertBeforeTask(compileJava)
+ *           .applyNowTo(project);
+ * }</pre>
+ *
+ * @param <P>
+ *         the type of the parameters of the work
+ */
+@Internal
+public final class ActionInWorker<P extends WorkParameters> implements Action<Task> {
+
+    private final WorkerExecutor executor;
+    private final Class<? extends WorkAction<P>> work;
+    private final Action<? super P> parameters;
+
+    private ActionInWorker(WorkerExecutor executor,
+                           Class<? extends WorkAction<P>> work,
+                           Action<? super P> parameters) {
+        this.executor = executor;
+        this.work = work;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Creates an action which submits the given work to a worker when a task is executed.
+     *
+     * @param project
+     *         the project of the task
+     * @param work
+     *         the class of the work to be run in a worker
+     * @param parameters
+     *         configures the parameters of the work when the task is executed
+     * @param <P>
+     *         the type of the parameters of the work
+     */
+    public static <P extends WorkParameters> ActionInWorker<P>
+    submitting(Project project, Class<? extends WorkAction<P>> work, Action<? super P> parameters) {
+        checkNotNull(project);
+        checkNotNull(work);
+        checkNotNull(parameters);
+        var services = project.getObjects()
+                              .newInstance(Services.class);
+        return new ActionInWorker<>(services.getWorkerExecutor(), work, parameters);
+    }
+
+    @Override
+    public void execute(Task task) {
+        executor.classLoaderIsolation()
+                .submit(work, parameters);
+    }
+
+    /**
+     * Gradle services injected by the {@linkplain org.gradle.api.model.ObjectFactory
+     * object factory} of a project.
+     */
+    public abstract static class Services {
+
+        /**
+         * Obtains the worker executor of the build.
+         */
+        @Inject
+        public abstract WorkerExecutor getWorkerExecutor();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle.task;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.tools.gradle.project.ProjectHierarchy;
+import org.gradle.api.Project;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A lazy dependency on the tasks with the same name in all the projects of the build.
+ *
+ * <p>A task which should depend on the tasks named, e.g., {@code compileJava}
+ * in all the projects, passes an instance of this class to
+ * {@link org.gradle.api.Task#dependsOn(Object...) dependsOn()}. Creating the instance
+ * does not inspect the projects, so the registration costs the same for any number
+ * of projects in the build.
+ *
+ * <p>The projects are inspected each time Gradle resolves the dependencies. So, the tasks
+ * registered after the dependency was declared are taken into account. The inspection
+ * looks up task names only and refers to the found tasks by their paths, so it does not
+ * create the tasks registered lazily.
+ */
+final class CrossProjectTasks implements Callable<List<String>> {
+
+    private final Project rootProject;
+    private final TaskName taskName;
+
+    private CrossProjectTasks(Project rootProject, TaskName taskName) {
+        this.rootProject = rootProject;
+        this.taskName = taskName;
+    }
+
+    /**
+     * Creates a lazy reference to the tasks with the given name in all the projects
+     * of the build.
+     *
+     * @param rootProject
+     *         the root project of the build
+     * @param taskName
+     *         the name of the tasks
+     */
+    static CrossProjectTasks named(Project rootProject, TaskName taskName) {
+        checkNotNull(rootProject);
+        checkNotNull(taskName);
+        checkArgument(rootProject.equals(rootProject.getRootProject()),
+                      "The passed project `%s` is not a root project.",
+                      rootProject.getPath());
+        return new CrossProjectTasks(rootProject, taskName);
+    }
+
+    /**
+     * Obtains the paths of the tasks with the {@linkplain #taskName name} in all
+     * the projects which have such tasks at the moment.
+     */
+    @Override
+    public List<String> call() {
+        var name = taskName.name();
+        var paths = ImmutableList.<String>builder();
+        ProjectHierarchy.applyToAll(rootProject, project -> {
+            var tasks = project.getTasks();
+            if (tasks.getNames().contains(name)) {
+                paths.add(project.absoluteProjectPath(name));
+            }
+        });
+        return paths.build();
+    }
+}
@@ -27,8 +27,8 @@
 package io.spine.tools.gradle.task;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
-import io.spine.tools.gradle.project.ProjectHierarchy;
 import org.jspecify.annotations.Nullable;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
@@ -36,13 +36,12 @@ import org.gradle.api.Task;
 import org.gradle.api.file.FileCollection;
 import org.gradle.api.tasks.TaskProvider;
 
-import java.io.File;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -132,6 +131,9 @@ public final class GradleTask {
      * this one provides {@link #applyNowTo(Project)} method instead of
      * {@code build(..)}. This is done to add some additional semantics to
      * such an irreversible action like this.
+     *
+     * <p>The {@link #registerLazilyIn(Project)} method is an alternative to
+     * {@code applyNowTo(..)}, which does not create the task until Gradle needs it.
      */
     public static final class Builder {
         private final TaskName name;
@@ -146,11 +148,9 @@ public final class GradleTask {
 
         private boolean allowNoDependencies;
 
-        private boolean hasInputFiles = false;
-        private final Set<File> inputs = new HashSet<>();
+        private final List<FileCollection> inputs = new ArrayList<>();
         private @Nullable Map<String, @Nullable Object> inputProperties;
-        private boolean hasOutputFiles = false;
-        private final Set<File> outputs = new HashSet<>();
+        private final List<FileCollection> outputs = new ArrayList<>();
 
         private Builder(TaskName name, Action<Task> action) {
             this.name = name;
@@ -209,6 +209,10 @@ public final class GradleTask {
          * <p>If a certain project does not have a task with the specified name, no action is
          * performed for that project.
          *
+         * <p>The tasks of other projects are looked up by name when Gradle resolves
+         * the dependencies of the new task, so the tasks added to other projects later
+         * are also taken into account.
+         *
          * <p>This method does not guarantee that the task will be included in a standard
          * Gradle build.
          *
@@ -276,14 +280,15 @@ public final class GradleTask {
          *
          * <p>Multiple invocations append the new files to the existing ones.
          *
+         * <p>The given collection is not resolved until Gradle inspects the task inputs.
+         *
          * @param inputs
          *         the task input files
          * @return the current instance of {@code Builder}
          */
         public Builder withInputFiles(FileCollection inputs) {
             checkNotNull(inputs, "Task inputs");
-            this.inputs.addAll(inputs.getFiles());
-            hasInputFiles = true;
+            this.inputs.add(inputs);
             return this;
         }
 
@@ -319,14 +324,15 @@ public final class GradleTask {
          *
          * <p>Note that a task is not skipped if its {@link #withInputFiles inputs} are changes.
          *
+         * <p>The given collection is not resolved until Gradle inspects the task outputs.
+         *
          * @param outputs
          *         the task output files
          * @return the current instance of {@code Builder}
          */
         public Builder withOutputFiles(FileCollection outputs) {
             checkNotNull(outputs, "Task outputs");
-            this.outputs.addAll(outputs.getFiles());
-            hasOutputFiles = true;
+            this.outputs.add(outputs);
             return this;
         }
 
@@ -335,6 +341,9 @@ public final class GradleTask {
          * if the task with the given name does not exist, specifying the task
          * lifecycle according to the "before" and "after" tasks specified in the builder.
          *
+         * <p>The task is created immediately. Please consider
+         * {@link #registerLazilyIn(Project)} for tasks which may not be needed in a build.
+         *
          * @param project
          *         the target Gradle project
          * @return the newly created Gradle task
@@ -343,32 +352,64 @@ public final class GradleTask {
          */
         @CanIgnoreReturnValue
         public GradleTask applyNowTo(Project project) {
+            var newTask = register(project);
+            var task = newTask.get();
+            if (followingTask != null) {
+                project.getTasks()
+                       .getByName(followingTask.name())
+                       .dependsOn(task);
+            }
+            var result = new GradleTask(task, name, project);
+            return result;
+        }
+
+        /**
+         * Registers the task in the given project without creating it.
+         *
+         * <p>Unlike {@link #applyNowTo(Project)}, this method does not force Gradle
+         * to create and configure the task. The task is configured when Gradle needs it,
+         * e.g., when the task gets into the task graph. The "before" task is configured to
+         * depend on the returned provider, so it does not create the new task either.
+         *
+         * <p>The settings of this builder are captured at the moment of the call.
+         * Later changes of the builder do not affect the registered task.
+         *
+         * @param project
+         *         the target Gradle project
+         * @return the provider of the registered task
+         * @throws IllegalStateException
+         *         if the task with the {@linkplain #getName() name} already exists
+         */
+        @CanIgnoreReturnValue
+        public TaskProvider<Task> registerLazilyIn(Project project) {
+            var newTask = register(project);
+            if (followingTask != null) {
+                project.getTasks()
+                       .named(followingTask.name())
+                       .configure(task -> task.dependsOn(newTask));
+            }
+            return newTask;
+        }
+
+        /**
+         * Registers the task in the given project passing the configuration action
+         * composed of the current state of this builder.
+         */
+        private TaskProvider<Task> register(Project project) {
             checkNotNull(project, "Project is not specified for the new Gradle task: `%s`.", name);
             checkDependencies();
             var log = project.getLogger();
             var projectName = project.getDisplayName();
             var taskName = name.name();
             log.debug("Creating task `{}` in the project `{}`.", taskName, projectName);
-            TaskProvider<Task> newTask;
+            var configuration = configuration(project);
             try {
-                newTask = project.getTasks()
-                                 .register(taskName, Task.class, task -> {
-                                     if (group != null) {
-                                         task.setGroup(group);
-                                     }
-                                     if (description != null) {
-                                         task.setDescription(description);
-                                     }
-                                     task.doLast(action);
-                                 });
+                return project.getTasks()
+                              .register(taskName, Task.class, configuration);
             } catch (@SuppressWarnings("OverlyBroadCatchBlock") Exception e) {
                 log.error("Failed to create task `{}` in the project `{}`.", taskName, projectName);
                 throw new IllegalStateException(e);
             }
-            dependTask(newTask.get(), project);
-            addTaskIO(newTask.get());
-            var result = new GradleTask(newTask.get(), name, project);
-            return result;
         }
 
         private void checkDependencies() {
@@ -389,35 +430,47 @@ public final class GradleTask {
                     || previousTaskOfAllProjects != null;
         }
 
-        private void dependTask(Task task, Project project) {
-            if (previousTask != null) {
-                task.dependsOn(previousTask.name());
-            }
-            if (followingTask != null) {
-                var existingTasks = project.getTasks();
-                existingTasks.getByName(followingTask.name())
-                             .dependsOn(task);
-            }
-            if (previousTaskOfAllProjects != null) {
-                var root = project.getRootProject();
-                dependTaskOnAllProjects(task, root);
-            }
-        }
-
-        private void dependTaskOnAllProjects(Task task, Project rootProject) {
-            checkNotNull(previousTaskOfAllProjects, "Previous task of all projects is not set.");
-            var prevTaskName = previousTaskOfAllProjects.name();
-            ProjectHierarchy.applyToAll(rootProject, project -> {
-                var existingTask = project.getTasks()
-                                          .findByName(prevTaskName);
-                if (existingTask != null) {
-                    task.dependsOn(existingTask);
+        /**
+         * Creates the action configuring the new task.
+         *
+         * <p>The action uses a snapshot of the state of this builder.
+         */
+        private Action<Task> configuration(Project project) {
+            var taskGroup = group;
+            var taskDescription = description;
+            var taskBefore = previousTask;
+            var tasksOfAllProjectsBefore = previousTaskOfAllProjects == null
+                                           ? null
+                                           : CrossProjectTasks.named(project.getRootProject(),
+                                                                     previousTaskOfAllProjects);
+            var inputFiles = ImmutableList.copyOf(inputs);
+            var outputFiles = ImmutableList.copyOf(outputs);
+            var properties = inputProperties == null
+                             ? null
+                             : new HashMap<>(inputProperties);
+            return task -> {
+                if (taskGroup != null) {
+                    task.setGroup(taskGroup);
+                }
+                if (taskDescription != null) {
+                    task.setDescription(taskDescription);
+                }
+                task.doLast(action);
+                if (taskBefore != null) {
+                    task.dependsOn(taskBefore.name());
+                }
+                if (tasksOfAllProjectsBefore != null) {
+                    task.dependsOn(tasksOfAllProjectsBefore);
                 }
-            });
+                addTaskIO(task, inputFiles, properties, outputFiles);
+            };
         }
 
-        private void addTaskIO(Task task) {
-            if (hasInputFiles) {
+        private static void addTaskIO(Task task,
+                                      ImmutableList<FileCollection> inputs,
+                                      @Nullable Map<String, @Nullable Object> inputProperties,
+                                      ImmutableList<FileCollection> outputs) {
+            if (!inputs.isEmpty()) {
                 task.getInputs()
                     .files(inputs)
                     .skipWhenEmpty()
@@ -427,7 +480,7 @@ public final class GradleTask {
                 task.getInputs()
                     .properties(inputProperties);
             }
-            if (hasOutputFiles) {
+            if (!outputs.isEmpty()) {
                 task.getOutputs()
                     .files(outputs)
                     .optional();
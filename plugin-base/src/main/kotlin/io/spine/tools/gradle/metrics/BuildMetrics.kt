@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle.metrics
+
+import groovy.json.JsonOutput
+import java.math.BigDecimal
+import java.math.RoundingMode
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.LongAdder
+import org.gradle.api.Project
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.logging.Logging
+import org.gradle.api.provider.Provider
+import org.gradle.api.services.BuildService
+import org.gradle.api.services.BuildServiceParameters
+
+/**
+ * Collects measurements made by Spine plugins during a build.
+ *
+ * Three kinds of metrics are supported:
+ *  - [timers][time] which accumulate the number of measured calls, the total and
+ *    the maximum duration of the calls;
+ *  - [counters][count] which accumulate numbers of processed items;
+ *  - [byte gauges][addBytes] which accumulate sizes of processed data.
+ *
+ * The metrics are aggregated for the whole build, so the measurements made in different
+ * projects under the same name are summed up. The recording is thread-safe.
+ *
+ * When the build completes, the metrics are written to the JSON
+ * [report file][Parameters.reportFile] and the summary is printed to the `INFO` log.
+ * The recorded measurements are also passed to the registered [listeners][addListener]
+ * as they are made.
+ *
+ * Metric names are dot-separated, starting with the name of the measured component,
+ * e.g., `"artifactMeta.write"`.
+ */
+public abstract class BuildMetrics : BuildService<BuildMetrics.Parameters>, AutoCloseable {
+
+    private val timers = ConcurrentHashMap<String, TimerStats>()
+    private val counters = ConcurrentHashMap<String, LongAdder>()
+    private val bytes = ConcurrentHashMap<String, LongAdder>()
+    private val listeners = CopyOnWriteArrayList<MetricsListener>()
+
+    /**
+     * The parameters of the service.
+     */
+    public interface Parameters : BuildServiceParameters {
+
+        /**
+         * The file to which the metrics are written when the build completes.
+         *
+         * If not set, the report is not written.
+         */
+        public val reportFile: RegularFileProperty
+    }
+
+    /**
+     * Measures the duration of the given [block] under the given timer [name].
+     *
+     * The duration is recorded even if the block throws.
+     *
+     * @return the result of the block.
+     */
+    public fun <T> time(name: String, block: () -> T): T {
+        val start = System.nanoTime()
+        try {
+            return block()
+        } finally {
+            recordTime(name, System.nanoTime() - start)
+        }
+    }
+
+    /**
+     * Records the duration of an operation measured by the caller.
+     *
+     * @param name The name of the timer.
+     * @param nanos The duration of the operation in nanoseconds.
+     */
+    public fun recordTime(name: String, nanos: Long) {
+        timers.computeIfAbsent(name) { TimerStats() }.record(nanos)
+        listeners.forEach { it.timeRecorded(name, nanos) }
+    }
+
+    /**
+     * Increments the counter with the given [name] by the given [delta].
+     */
+    public fun count(name: String, delta: Long = 1) {
+        counters.computeIfAbsent(name) { LongAdder() }.add(delta)
+        listeners.forEach { it.counted(name, delta) }
+    }
+
+    /**
+     * Adds the given number of bytes to the byte gauge with the given [name].
+     */
+    public fun addBytes(name: String, amount: Long) {
+        bytes.computeIfAbsent(name) { LongAdder() }.add(amount)
+        listeners.forEach { it.bytesAdded(name, amount) }
+    }
+
+    /**
+     * Registers the listener of the measurements made after the call.
+     */
+    public fun addListener(listener: MetricsListener) {
+        listeners.add(listener)
+    }
+
+    /**
+     * Obtains the metrics collected so far in the JSON format.
+     */
+    public fun toJson(): String {
+        val report = mapOf(
+            "timers" to timers.sortedMap { stats ->
+                mapOf(
+                    "count" to stats.count,
+                    "totalMillis" to stats.totalNanos.toMillis(),
+                    "maxMillis" to stats.maxNanos.toMillis()
+                )
+            },
+            "counters" to counters.sortedMap { it.sum() },
+            "bytes" to bytes.sortedMap { it.sum() }
+        )
+        return JsonOutput.prettyPrint(JsonOutput.toJson(report)) + '\n'
+    }
+
+    /**
+     * Writes the report and logs the summary of the collected metrics.
+     */
+    override fun close() {
+        if (timers.isEmpty() && counters.isEmpty() && bytes.isEmpty()) {
+            return
+        }
+        val json = toJson()
+        val logger = Logging.getLogger(BuildMetrics::class.java)
+        logger.info("Spine build metrics:\n{}", json)
+        val file = parameters.reportFile.orNull?.asFile ?: return
+        file.parentFile.mkdirs()
+        file.writeText(json)
+        logger.info("Spine build metrics were written to `{}`.", file)
+    }
+
+    public companion object {
+
+        /**
+         * The name under which the service is registered in the build.
+         */
+        public const val SERVICE_NAME: String = "spineBuildMetrics"
+
+        /**
+         * The path of the report file relative to the build directory of the root project.
+         */
+        public const val REPORT_PATH: String = "reports/spine/build-metrics.json"
+
+        /**
+         * Registers the service in the build of the given project, if it is
+         * not registered yet.
+         *
+         * Tasks using the service should declare it via [Task.usesService][
+         * org.gradle.api.Task.usesService].
+         */
+        @JvmStatic
+        public fun register(project: Project): Provider<BuildMetrics> {
+            val rootBuildDir = project.rootProject.layout.buildDirectory
+            return project.gradle.sharedServices
+                .registerIfAbsent(SERVICE_NAME, BuildMetrics::class.java) { spec ->
+                    spec.parameters.reportFile.set(rootBuildDir.file(REPORT_PATH))
+                }
+        }
+
+        /**
+         * Obtains the instance of the service shared by all the projects of the build.
+         */
+        @JvmStatic
+        public fun of(project: Project): BuildMetrics = register(project).get()
+    }
+}
+
+/**
+ * Receives the measurements recorded by [BuildMetrics].
+ *
+ * Listeners allow forwarding the metrics to external tools, e.g., to build scans.
+ * The methods may be called concurrently.
+ */
+public interface MetricsListener {
+
+    /**
+     * Called when the duration is recorded for the timer with the given name.
+     */
+    public fun timeRecorded(name: String, nanos: Long): Unit = Unit
+
+    /**
+     * Called when the counter with the given name is incremented.
+     */
+    public fun counted(name: String, delta: Long): Unit = Unit
+
+    /**
+     * Called when bytes are added to the gauge with the given name.
+     */
+    public fun bytesAdded(name: String, amount: Long): Unit = Unit
+}
+
+/**
+ * Accumulated measurements of a timer.
+ */
+private class TimerStats {
+
+    private val countAdder = LongAdder()
+    private val totalAdder = LongAdder()
+    private val max = AtomicLong()
+
+    val count: Long get() = countAdder.sum()
+    val totalNanos: Long get() = totalAdder.sum()
+    val maxNanos: Long get() = max.get()
+
+    fun record(nanos: Long) {
+        countAdder.increment()
+        totalAdder.add(nanos)
+        max.accumulateAndGet(nanos, ::maxOf)
+    }
+}
+
+private const val MILLIS_SCALE = 3
+
+private fun Long.toMillis(): BigDecimal = BigDecimal.valueOf(this, MILLIS_SCALE * 2)
+    .setScale(MILLIS_SCALE, RoundingMode.HALF_UP)
+
+/**
+ * Obtains the entries of this map sorted by their keys, with the values
+ * transformed by the given function.
+ */
+private fun <V, R> Map<String, V>.sortedMap(value: (V) -> R): Map<String, R> =
+    toSortedMap().mapValues { value(it.value) }
@@ -28,7 +28,6 @@
 
 package io.spine.tools.gradle.project
 
-import com.google.common.collect.ImmutableList
 import io.spine.tools.code.Java
 import io.spine.tools.code.Kotlin
 import io.spine.tools.code.Language
@@ -38,9 +37,13 @@ import io.spine.tools.gradle.ConfigurationName
 import io.spine.tools.gradle.task.TaskName
 import io.spine.tools.meta.MavenArtifact
 import java.lang.reflect.Method
+import java.util.Collections
+import java.util.Optional
+import java.util.WeakHashMap
 import org.gradle.api.Project
 import org.gradle.api.artifacts.Configuration
 import org.gradle.api.plugins.JavaPluginExtension
+import org.gradle.api.provider.Provider
 import org.gradle.api.tasks.SourceSet
 import org.gradle.api.tasks.SourceSetContainer
 import org.gradle.api.tasks.compile.JavaCompile
@@ -96,20 +99,72 @@ public fun Project.artifact(ssn: SourceSetName): MavenArtifact {
 }
 
 /**
- * Obtains a parameterless method with the given name.
+ * Obtains the `artifactId` of the first Maven publication in this project.
+ *
+ * The provider has no value if the `maven-publish` plugin is not applied, or
+ * there are no publications with a non-blank `artifactId`.
+ *
+ * @see artifact
+ */
+public val Project.mavenPublicationArtifactId: Provider<String>
+    get() = provider { findMavenPublicationArtifactId() }
+
+/**
+ * Publication artifact IDs of the projects that have completed their evaluation.
+ *
+ * Publications are configured by build scripts. Therefore, the value is
+ * memoized only after the project is evaluated, so that all further calls
+ * avoid reflection.
  */
-private fun Any.method(name: String): Method? =
-    javaClass.methods.find { m -> m.name == name && m.parameterCount == 0 }
+private val publicationArtifactIds: MutableMap<Project, Optional<String>> =
+    Collections.synchronizedMap(WeakHashMap())
 
 /**
  * Attempts to obtain the `artifactId` of the first Maven publication in this project.
  *
+ * Returns `null` if the `maven-publish` plugin is not applied, or if there are no
+ * publications with a non-blank `artifactId`.
+ *
+ * Once the project is evaluated, the result is memoized.
+ */
+private fun Project.findMavenPublicationArtifactId(): String? {
+    if (!state.executed) {
+        return lookUpMavenPublicationArtifactId()
+    }
+    val memoized = publicationArtifactIds.computeIfAbsent(this) {
+        Optional.ofNullable(lookUpMavenPublicationArtifactId())
+    }
+    return memoized.orElse(null)
+}
+
+/**
+ * Parameterless methods of classes obtained by their names.
+ */
+private class MethodsByName(private val name: String) : ClassValue<Optional<Method>>() {
+
+    override fun computeValue(type: Class<*>): Optional<Method> =
+        Optional.ofNullable(type.methods.find { m -> m.name == name && m.parameterCount == 0 })
+}
+
+private val getPublications = MethodsByName("getPublications")
+private val getArtifactId = MethodsByName("getArtifactId")
+
+/**
+ * Obtains a parameterless method of this object using the given cache.
+ */
+private fun Any.method(methods: MethodsByName): Method? =
+    methods.get(javaClass).orElse(null)
+
+/**
+ * Looks up the `artifactId` of the first Maven publication in this project.
+ *
  * Uses reflection to avoid a hard dependency on the Maven Publish plugin classes.
+ * The methods found by reflection are cached per class.
  * Returns `null` if the `maven-publish` plugin is not applied, if there are no
  * publications, or if reflection fails for any reason.
  */
 @Suppress("SwallowedException", "ReturnCount", "CyclomaticComplexMethod")
-private fun Project.findMavenPublicationArtifactId(): String? {
+private fun Project.lookUpMavenPublicationArtifactId(): String? {
     return try {
         // Check if the Maven Publish plugin is applied.
         if (!pluginManager.hasPlugin("maven-publish")) {
@@ -119,14 +174,14 @@ private fun Project.findMavenPublicationArtifactId(): String? {
         val publishingExt = extensions.findByName("publishing") ?: return null
 
         // Invoke `getPublications()` reflectively.
-        val getPublications = publishingExt.method("getPublications")
+        val publicationsMethod = publishingExt.method(getPublications)
             ?: return null
-        val publications = getPublications.invoke(publishingExt) ?: return null
+        val publications = publicationsMethod.invoke(publishingExt) ?: return null
 
         // Helper to extract artifactId from a publication using reflection.
         fun artifactIdOf(pub: Any?): String? {
             if (pub == null) return null
-            val method = pub.method("getArtifactId")
+            val method = pub.method(getArtifactId)
                 ?: return null
             val value = method.invoke(pub) as? String
             return value?.takeIf { it.isNotBlank() }
@@ -155,21 +210,57 @@ public fun Project.configuration(name: ConfigurationName): Configuration =
 /**
  * Tells if this project can deal with Kotlin code.
  *
- * @return `true` if any of the tasks starts with `"compile"` and ends with `"Kotlin"`.
+ * @return `true` if one of the Kotlin Gradle plugins is applied, or
+ *   any of the tasks starts with `"compile"` and ends with `"Kotlin"`.
+ */
+public fun Project.hasKotlin(): Boolean =
+    KOTLIN_PLUGIN_IDS.any { pluginManager.hasPlugin(it) } || hasCompileTask(Kotlin)
+
+/**
+ * IDs of the Kotlin Gradle plugins which add Kotlin compilation to a project.
  */
-public fun Project.hasKotlin(): Boolean = hasCompileTask(Kotlin)
+private val KOTLIN_PLUGIN_IDS = listOf(
+    "org.jetbrains.kotlin.jvm",
+    "org.jetbrains.kotlin.multiplatform",
+    "org.jetbrains.kotlin.android"
+)
 
 /**
  * Tells if this project has a compile task for the given language.
+ *
+ * The function inspects the names of the tasks, so that the tasks registered
+ * lazily are not realized.
+ *
+ * Once a compile task is found, the result is remembered for the project
+ * because tasks cannot be removed from a project.
  */
 public fun Project.hasCompileTask(language: Language): Boolean {
-    val currentTasks = ImmutableList.copyOf(tasks)
-    val compileTask = currentTasks.find {
-        it.name.startsWith(TaskName.COMPILE_PREFIX) && it.name.endsWith(language.name)
+    val found = languagesWithCompileTask()
+    val lang = language.name
+    if (found.contains(lang)) {
+        return true
+    }
+    val hasTask = tasks.names.any {
+        it.startsWith(TaskName.COMPILE_PREFIX) && it.endsWith(lang)
     }
-    return compileTask != null
+    if (hasTask) {
+        found.add(lang)
+    }
+    return hasTask
 }
 
+/**
+ * Names of the languages for which compile tasks were found in a project.
+ *
+ * The keys are weak, so that projects of finished builds can be collected when
+ * a Gradle daemon runs several builds.
+ */
+private val compileTaskLanguages: MutableMap<Project, MutableSet<String>> =
+    Collections.synchronizedMap(WeakHashMap())
+
+private fun Project.languagesWithCompileTask(): MutableSet<String> =
+    compileTaskLanguages.computeIfAbsent(this) { Collections.synchronizedSet(HashSet()) }
+
 /**
  * Verifies if the project can deal with Java or Kotlin code.
  *
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle.metrics
+
+import groovy.json.JsonSlurper
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import org.gradle.api.Project
+import org.gradle.testfixtures.ProjectBuilder
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`BuildMetrics` should")
+internal class BuildMetricsSpec {
+
+    private lateinit var project: Project
+    private lateinit var metrics: BuildMetrics
+
+    @BeforeEach
+    fun setUp() {
+        project = ProjectBuilder.builder().build()
+        metrics = BuildMetrics.of(project)
+    }
+
+    @Test
+    fun `be shared by the projects of a build`() {
+        val subproject = ProjectBuilder.builder().withParent(project).build()
+
+        BuildMetrics.of(subproject) shouldBeSameInstanceAs metrics
+    }
+
+    @Test
+    fun `return the result of a timed block`() {
+        metrics.time("sample.timer") { 42 } shouldBe 42
+
+        metrics.report("timers", "sample.timer")["count"] shouldBe 1
+    }
+
+    @Test
+    fun `record time of a failed block`() {
+        assertThrows<IllegalStateException> {
+            metrics.time("failing.timer") { error("Failure.") }
+        }
+
+        metrics.report("timers", "failing.timer")["count"] shouldBe 1
+    }
+
+    @Test
+    fun `sum up counters and byte gauges`() {
+        metrics.count("sample.counter")
+        metrics.count("sample.counter", 2)
+        metrics.addBytes("sample.bytes", 100)
+        metrics.addBytes("sample.bytes", 24)
+
+        metrics.report("counters")["sample.counter"] shouldBe 3
+        metrics.report("bytes")["sample.bytes"] shouldBe 124
+    }
+
+    @Test
+    fun `notify listeners about measurements`() {
+        val received = mutableListOf<String>()
+        metrics.addListener(object : MetricsListener {
+            override fun counted(name: String, delta: Long) {
+                received.add("$name+$delta")
+            }
+
+            override fun bytesAdded(name: String, amount: Long) {
+                received.add("$name=$amount")
+            }
+        })
+
+        metrics.count("files", 2)
+        metrics.addBytes("size", 10)
+
+        received shouldBe listOf("files+2", "size=10")
+    }
+
+    @Test
+    fun `escape metric names in the JSON report`() {
+        metrics.count("quoted\"name")
+
+        metrics.toJson() shouldContain "\"quoted\\\"name\": 1"
+        metrics.report("counters")["quoted\"name"] shouldBe 1
+    }
+}
+
+/**
+ * Parses the JSON report of the metrics and obtains the object at the given path.
+ */
+private fun BuildMetrics.report(vararg path: String): Map<*, *> =
+    path.fold(JsonSlurper().parseText(toJson()) as Map<*, *>) { json, key ->
+        json[key] as Map<*, *>
+    }
@@ -30,6 +30,7 @@ import io.kotest.matchers.collections.shouldContainExactly
 import io.kotest.matchers.collections.shouldHaveSize
 import io.kotest.matchers.shouldBe
 import io.kotest.matchers.shouldNotBe
+import io.spine.tools.code.Java
 import io.spine.tools.code.SourceSetName
 import io.spine.tools.code.SourceSetName.Companion.main
 import io.spine.tools.code.SourceSetName.Companion.test
@@ -93,6 +94,18 @@ class ProjectExtsSpec {
         }
     }
 
+    @Test
+    fun `detect compile tasks without realizing them`() {
+        var realized = false
+        project.tasks.register("compileSampleKotlin") { realized = true }
+
+        project.let {
+            it.hasKotlin() shouldBe true
+            it.hasCompileTask(Java) shouldBe true
+        }
+        realized shouldBe false
+    }
+
     @Test
     fun `obtain a source set by its name`() {
         project.let {
@@ -151,4 +164,18 @@ class ProjectExtsSpec {
 
         project.artifact(main).name shouldBe "custom-artifact-id"
     }
+
+    @Test
+    fun `provide the Maven publication 'artifactId' lazily`() {
+        val artifactId = project.mavenPublicationArtifactId
+        artifactId.isPresent shouldBe false
+
+        project.pluginManager.apply(MavenPublishPlugin::class.java)
+        val publishing = project.extensions.getByType(PublishingExtension::class.java)
+        publishing.publications.create("maven", MavenPublication::class.java) {
+            it.artifactId = "lazy-artifact-id"
+        }
+
+        artifactId.get() shouldBe "lazy-artifact-id"
+    }
 }
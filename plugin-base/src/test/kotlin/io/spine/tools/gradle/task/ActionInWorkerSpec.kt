@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle.task
+
+import io.kotest.matchers.shouldBe
+import io.spine.tools.gradle.task.given.WriteInWorkerPlugin
+import io.spine.tools.gradle.task.given.WriteInWorkerPlugin.Companion.FILE_NAME
+import java.io.File
+import org.gradle.testkit.runner.GradleRunner
+import org.gradle.testkit.runner.TaskOutcome
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`ActionInWorker` should")
+internal class ActionInWorkerSpec {
+
+    @TempDir
+    lateinit var projectDir: File
+
+    @Test
+    fun `run work in an isolated worker`() {
+        projectDir.resolve("settings.gradle.kts").writeText("""
+            rootProject.name = "worker-test"
+            include("sub")
+            """.trimIndent()
+        )
+        val buildScript = """
+            plugins {
+                id("${WriteInWorkerPlugin.ID}")
+            }
+            """.trimIndent()
+        projectDir.resolve("build.gradle.kts").writeText(buildScript)
+        projectDir.resolve("sub/build.gradle.kts").apply {
+            parentFile.mkdirs()
+            writeText(buildScript)
+        }
+
+        val taskName = WriteInWorkerPlugin.taskName.name()
+        val result = GradleRunner.create()
+            .withProjectDir(projectDir)
+            .withPluginClasspath(testClasspath())
+            .withArguments(taskName, "--parallel", "--stacktrace")
+            .build()
+
+        result.task(":$taskName")?.outcome shouldBe TaskOutcome.SUCCESS
+        result.task(":sub:$taskName")?.outcome shouldBe TaskOutcome.SUCCESS
+        projectDir.resolve("build/$FILE_NAME").readText() shouldBe ":"
+        projectDir.resolve("sub/build/$FILE_NAME").readText() shouldBe ":sub"
+    }
+}
+
+/**
+ * Obtains the classpath of the tests with the exception of the Gradle API,
+ * which is provided by the Gradle running the test build.
+ */
+private fun testClasspath(): List<File> =
+    System.getProperty("java.class.path")
+        .split(File.pathSeparator)
+        .filter { !it.contains("generated-gradle-jars") }
+        .map(::File)
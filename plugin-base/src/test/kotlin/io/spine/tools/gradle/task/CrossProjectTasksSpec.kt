@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle.task
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.collections.shouldContainExactly
+import io.spine.tools.gradle.task.JavaTaskName.Companion.compileJava
+import io.spine.tools.gradle.testing.GradleProject
+import org.gradle.api.Project
+import org.gradle.testfixtures.ProjectBuilder
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`CrossProjectTasks` should")
+internal class CrossProjectTasksSpec {
+
+    private lateinit var root: Project
+    private lateinit var sub: Project
+
+    @BeforeEach
+    fun setUp() {
+        root = ProjectBuilder.builder().build()
+        sub = ProjectBuilder.builder().withName("sub").withParent(root).build()
+        sub.pluginManager.apply(GradleProject.javaPlugin)
+    }
+
+    @Test
+    fun `accept only the root project`() {
+        shouldThrow<IllegalArgumentException> {
+            CrossProjectTasks.named(sub, compileJava)
+        }
+    }
+
+    @Test
+    fun `find tasks only in the projects which have them`() {
+        val tasks = CrossProjectTasks.named(root, compileJava)
+
+        tasks.call() shouldContainExactly listOf(":sub:compileJava")
+    }
+
+    @Test
+    fun `take into account the tasks added later`() {
+        val tasks = CrossProjectTasks.named(root, compileJava)
+        tasks.call() shouldContainExactly listOf(":sub:compileJava")
+
+        root.pluginManager.apply(GradleProject.javaPlugin)
+
+        tasks.call() shouldContainExactly listOf(":compileJava", ":sub:compileJava")
+    }
+}
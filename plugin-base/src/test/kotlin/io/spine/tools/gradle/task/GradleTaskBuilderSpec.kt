@@ -77,9 +77,9 @@ internal class GradleTaskBuilderSpec {
         val subProjectTasks = subProject.tasks
         val newTask = subProjectTasks.findByName(task.name.name())
         newTask shouldNotBe null
-        val dependencies: Collection<*> = newTask!!.dependsOn
-        dependencies shouldContain subProjectTasks.findByName(compileJava.name())
-        dependencies shouldContain project.tasks.findByName(compileJava.name())
+        val dependencies = newTask!!.taskDependencies.getDependencies(newTask)
+        dependencies shouldContain subProjectTasks.getByName(compileJava.name())
+        dependencies shouldContain project.tasks.getByName(compileJava.name())
     }
 
     @Test
@@ -264,6 +264,62 @@ internal class GradleTaskBuilderSpec {
         }
     }
 
+    @Nested
+    inner class `'registerLazilyIn'` {
+
+        private var realized = false
+
+        @BeforeEach
+        fun watchRealization() {
+            realized = false
+            project.tasks.configureEach {
+                if (it.name == verifyModel.name) {
+                    realized = true
+                }
+            }
+        }
+
+        @Test
+        fun `not create the task`() {
+            val provider = GradleTask.newBuilder(verifyModel, NoOp.action())
+                .insertAfterTask(compileJava)
+                .insertBeforeTask(classes)
+                .registerLazilyIn(project)
+
+            realized shouldBe false
+            provider.name shouldBe verifyModel.name
+        }
+
+        @Test
+        fun `configure the task when it is created`() {
+            val input = File(".").absoluteFile
+            val provider = GradleTask.newBuilder(verifyModel, NoOp.action())
+                .insertAfterTask(compileJava)
+                .withGroup("verification")
+                .withInputFiles(project.layout.files(input))
+                .registerLazilyIn(project)
+
+            val task = provider.get()
+
+            realized shouldBe true
+            task.group shouldBe "verification"
+            task.dependsOn shouldContain compileJava.name()
+            task.inputs.files.files.map { it.canonicalFile } shouldContain input.canonicalFile
+        }
+
+        @Test
+        fun `make the following task depend on the provider`() {
+            val provider = GradleTask.newBuilder(verifyModel, NoOp.action())
+                .insertBeforeTask(classes)
+                .registerLazilyIn(project)
+
+            val classesTask = project.tasks.getByName(classes.name())
+
+            classesTask.dependsOn shouldContain provider
+            realized shouldBe false
+        }
+    }
+
     @Test
     fun `allow creating task with no dependencies if explicitly permitted`() {
         val standaloneProject = ProjectBuilder.builder().build()
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle.task.given
+
+import io.spine.tools.gradle.task.ActionInWorker
+import io.spine.tools.gradle.task.GradleTask
+import io.spine.tools.gradle.task.TaskName
+import org.gradle.api.Plugin
+import org.gradle.api.Project
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.Property
+import org.gradle.workers.WorkAction
+import org.gradle.workers.WorkParameters
+
+/**
+ * Adds the [writeInWorker][WriteInWorkerPlugin.taskName] task, which writes the path
+ * of the project into a file from a worker of the Gradle Worker API.
+ */
+public class WriteInWorkerPlugin : Plugin<Project> {
+
+    override fun apply(project: Project) {
+        val action = ActionInWorker.submitting(project, WriteText::class.java) {
+            it.file.set(project.layout.buildDirectory.file(FILE_NAME))
+            it.text.set(project.path)
+        }
+        GradleTask.newBuilder(taskName, action)
+            .allowNoDependencies()
+            .applyNowTo(project)
+    }
+
+    public companion object {
+
+        /**
+         * The ID of the plugin, which matches the name of its `.properties` file
+         * under `META-INF/gradle-plugins`.
+         */
+        public const val ID: String = "io.spine.test.worker"
+
+        /**
+         * The name of the file written by the task, relative to the build directory.
+         */
+        public const val FILE_NAME: String = "written-in-worker.txt"
+
+        /**
+         * The name of the task added by the plugin.
+         */
+        public val taskName: TaskName = TaskName.of("writeInWorker")
+    }
+}
+
+/**
+ * Writes the [text][WriteText.Parameters.text] into the [file][WriteText.Parameters.file].
+ */
+public abstract class WriteText : WorkAction<WriteText.Parameters> {
+
+    /**
+     * The parameters of [WriteText].
+     */
+    public interface Parameters : WorkParameters {
+        public val file: RegularFileProperty
+        public val text: Property<String>
+    }
+
+    override fun execute() {
+        val file = parameters.file.get().asFile
+        file.parentFile.mkdirs()
+        file.writeText(parameters.text.get())
+    }
+}
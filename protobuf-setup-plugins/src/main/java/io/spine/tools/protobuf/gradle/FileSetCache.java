@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protobuf.gradle;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.spine.tools.type.MergedDescriptorSet;
+import org.gradle.api.Project;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.jspecify.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Caches descriptor sets collected by {@link ProtoFiles} so that code generation actions
+ * of a build share a single descriptor load.
+ *
+ * <p>The cache is a build service, so it lives as long as the build which uses it,
+ * and is discarded when the build completes.
+ *
+ * <p>The cache is keyed by the descriptor set file of a source set. Each entry remembers
+ * the fingerprint of the files from which the descriptor set was loaded, that is,
+ * the descriptor set file itself and the files of the runtime classpath. When
+ * the fingerprint changes, the descriptor set is loaded anew.
+ *
+ * <p>The fingerprint is computed from paths, sizes, and modification times of the files,
+ * which does not require reading their content. For a directory on the classpath,
+ * the fingerprint includes all the files under the directory, since changing a file
+ * does not change the size or the modification time of the directory itself.
+ *
+ * <p>The class is thread-safe. Concurrent requests for the same descriptor set file
+ * wait for the single load to complete.
+ */
+public abstract class FileSetCache implements BuildService<BuildServiceParameters.None> {
+
+    /**
+     * The name under which the service is registered in the build.
+     */
+    public static final String SERVICE_NAME = "spineFileSetCache";
+
+    private final Map<File, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the service in the build of the given project, if it is not registered yet.
+     *
+     * <p>Tasks using the service should declare it via
+     * {@link org.gradle.api.Task#usesService(Provider) Task.usesService()}.
+     */
+    public static Provider<FileSetCache> register(Project project) {
+        checkNotNull(project);
+        return project.getGradle()
+                      .getSharedServices()
+                      .registerIfAbsent(SERVICE_NAME, FileSetCache.class, spec -> {});
+    }
+
+    /**
+     * Obtains the descriptor set loaded from the given files, loading it if the cached value
+     * is absent or was loaded from the files in a different state.
+     *
+     * @param descriptorSetFile
+     *         the descriptor set file of a source set
+     * @param classpath
+     *         the files of the runtime classpath of the source set
+     * @param loader
+     *         loads the descriptor set if the cached value cannot be used
+     */
+    MergedDescriptorSet get(File descriptorSetFile,
+                            Iterable<File> classpath,
+                            Supplier<MergedDescriptorSet> loader) {
+        var fingerprint = fingerprint(descriptorSetFile, classpath);
+        var entry = entries.computeIfAbsent(descriptorSetFile.getAbsoluteFile(),
+                                            f -> new Entry());
+        return entry.get(fingerprint, loader);
+    }
+
+    private static HashCode fingerprint(File descriptorSetFile, Iterable<File> classpath) {
+        var hasher = Hashing.murmur3_128().newHasher();
+        putStamp(hasher, descriptorSetFile);
+        for (var file : classpath) {
+            if (file.isDirectory()) {
+                putDirectoryStamps(hasher, file.toPath());
+            } else {
+                putStamp(hasher, file);
+            }
+        }
+        return hasher.hash();
+    }
+
+    private static void putDirectoryStamps(Hasher hasher, Path directory) {
+        try (var files = Files.walk(directory)) {
+            files.filter(Files::isRegularFile)
+                 .sorted()
+                 .forEach(file -> putStamp(hasher, file.toFile()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void putStamp(Hasher hasher, File file) {
+        hasher.putString(file.getAbsolutePath(), UTF_8)
+              .putLong(file.length())
+              .putLong(file.lastModified());
+    }
+
+    /**
+     * A cached descriptor set along with the fingerprint of the files it was loaded from.
+     */
+    private static final class Entry {
+
+        private @Nullable HashCode fingerprint;
+        private @Nullable MergedDescriptorSet descriptors;
+
+        private synchronized MergedDescriptorSet get(HashCode fingerprint,
+                                                     Supplier<MergedDescriptorSet> loader) {
+            if (descriptors == null || !fingerprint.equals(this.fingerprint)) {
+                descriptors = loader.get();
+                this.fingerprint = fingerprint;
+            }
+            return descriptors;
+        }
+    }
+}
@@ -26,13 +26,18 @@
 
 package io.spine.tools.protobuf.gradle;
 
+import com.google.common.collect.ImmutableList;
 import io.spine.code.proto.FileSet;
 import io.spine.tools.code.SourceSetName;
 import io.spine.tools.gradle.JavaConfigurationName;
+import io.spine.tools.gradle.metrics.BuildMetrics;
 import io.spine.tools.type.FileDescriptorSuperset;
+import io.spine.tools.type.MergedDescriptorSet;
 import io.spine.tools.type.MoreKnownTypes;
 import org.gradle.api.Project;
+import org.gradle.api.Task;
 import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.provider.Provider;
 
 import java.io.File;
 import java.util.function.Supplier;
@@ -49,6 +54,11 @@ import static io.spine.tools.protobuf.gradle.Projects.descriptorSetFile;
  */
 public final class ProtoFiles {
 
+    private static final String REQUESTS_COUNTER = "protoFiles.requests";
+    private static final String MERGE_TIMER = "protoFiles.descriptors.merge";
+    private static final String KNOWN_TYPES_TIMER = "protoFiles.knownTypes.load";
+    private static final String DESCRIPTOR_SET_GAUGE = "protoFiles.descriptorSet.size";
+
     /** Prevents instantiation of this utility class. */
     private ProtoFiles() {
     }
@@ -58,6 +68,11 @@ public final class ProtoFiles {
      * and all proto files from the dependencies.
      *
      * <p>Extends {@linkplain MoreKnownTypes known types} with types form collected files.
+     *
+     * <p>The supplier uses the {@link BuildMetrics} and {@link FileSetCache} build services.
+     * A task calling the supplier should declare them via
+     * {@link Task#usesService(Provider) Task.usesService()}, or obtain the supplier
+     * via {@link #collect(Task, SourceSetName)}, which declares the services.
      */
     public static Supplier<FileSet> collect(Project project, SourceSetName ssn) {
         checkNotNull(project);
@@ -65,7 +80,26 @@ public final class ProtoFiles {
         Supplier<File> descriptorSetFile = () -> descriptorSetFile(project, ssn);
         var cn = JavaConfigurationName.runtimeClasspath(ssn);
         var configuration = configuration(project, cn);
-        return collect(descriptorSetFile, configuration);
+        var metrics = BuildMetrics.register(project);
+        var cache = FileSetCache.register(project);
+        return collect(descriptorSetFile, configuration, metrics, cache);
+    }
+
+    /**
+     * Obtains a supplier of file set containing proto files of the specified source set
+     * of the project of the given task, and all proto files from the dependencies.
+     *
+     * <p>Declares that the task uses the build services needed by the supplier.
+     *
+     * @see #collect(Project, SourceSetName)
+     */
+    public static Supplier<FileSet> collect(Task task, SourceSetName ssn) {
+        checkNotNull(task);
+        checkNotNull(ssn);
+        var project = task.getProject();
+        task.usesService(BuildMetrics.register(project));
+        task.usesService(FileSetCache.register(project));
+        return collect(project, ssn);
     }
 
     /**
@@ -74,23 +108,53 @@ public final class ProtoFiles {
      *
      * <p>Extends {@linkplain MoreKnownTypes known types} with types form collected files.
      *
+     * <p>The descriptors are {@linkplain FileSetCache cached} for the duration of the build,
+     * so that suppliers obtained for the same source set load descriptors only once while
+     * the descriptor set file and the files of the configuration remain unchanged.
+     * The known types are extended once per loaded file set.
+     *
      * @param descriptorSetFile
      *         the path to the descriptor set file
      * @param configuration
      *         the configuration to scan descriptor set files from
+     * @param metrics
+     *         the service recording the time of loading descriptors
+     * @param cache
+     *         the service caching the loaded descriptors
      */
     private static Supplier<FileSet> collect(Supplier<File> descriptorSetFile,
-                                             Configuration configuration) {
+                                             Configuration configuration,
+                                             Provider<BuildMetrics> metrics,
+                                             Provider<FileSetCache> cache) {
         return () -> {
-            var superset = new FileDescriptorSuperset();
-            configuration.forEach(superset::addFromDependency);
             var suppliedDescriptorSet = descriptorSetFile.get();
-            if (suppliedDescriptorSet.exists()) {
-                superset.addFromDependency(suppliedDescriptorSet);
-            }
-            var mergedSet = superset.merge();
-            mergedSet.loadIntoKnownTypes();
+            var classpath = ImmutableList.copyOf(configuration.getFiles());
+            var buildMetrics = metrics.get();
+            buildMetrics.count(REQUESTS_COUNTER, 1);
+            var mergedSet = cache.get().get(
+                    suppliedDescriptorSet, classpath,
+                    () -> load(suppliedDescriptorSet, classpath, buildMetrics)
+            );
             return mergedSet.fileSet();
         };
     }
+
+    private static MergedDescriptorSet load(File descriptorSetFile,
+                                            Iterable<File> classpath,
+                                            BuildMetrics metrics) {
+        var superset = new FileDescriptorSuperset();
+        var mergedSet = metrics.time(MERGE_TIMER, () -> {
+            classpath.forEach(superset::addFromDependency);
+            if (descriptorSetFile.exists()) {
+                superset.addFromDependency(descriptorSetFile);
+                metrics.addBytes(DESCRIPTOR_SET_GAUGE, descriptorSetFile.length());
+            }
+            return superset.merge();
+        });
+        metrics.time(KNOWN_TYPES_TIMER, () -> {
+            mergedSet.loadIntoKnownTypes();
+            return null;
+        });
+        return mergedSet;
+    }
 }
@@ -26,18 +26,22 @@
 
 package io.spine.tools.protobuf.gradle.plugin;
 
-import com.google.common.collect.ImmutableList;
 import com.google.protobuf.gradle.ExecutableLocator;
 import com.google.protobuf.gradle.GenerateProtoTask;
 import com.google.protobuf.gradle.ProtobufExtension;
 import com.google.protobuf.gradle.ProtobufExtension.GenerateProtoTaskCollection;
+import io.spine.tools.code.SourceSetName;
+import io.spine.tools.meta.MavenArtifact;
 import org.gradle.api.NamedDomainObjectContainer;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.provider.Property;
 
+import static io.spine.tools.gradle.project.Projects.artifact;
+import static io.spine.tools.protobuf.gradle.Projects.descriptorSetFile;
 import static io.spine.tools.protobuf.gradle.Projects.getProtobufExtension;
 import static io.spine.tools.protobuf.gradle.ProtobufDependencies.gradlePlugin;
-import static io.spine.tools.protobuf.gradle.Tasks.getDescriptorSetFile;
+import static io.spine.tools.protobuf.gradle.Tasks.getSourceSetName;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
@@ -103,12 +107,26 @@ public abstract class ProtocConfigurationPlugin implements Plugin<Project> {
         private final Project project;
         private final ProtobufExtension protobuf;
 
+        /**
+         * The artifact of the project, computed once when the first task is configured.
+         *
+         * <p>The Protoc tasks are configured after the project is evaluated, so the value
+         * reflects the group and version of the project set after the plugin is applied.
+         * Once read, the value is finalized and shared by all the tasks of the project.
+         */
+        private final Property<MavenArtifact> artifact;
+
         private Helper(ProtocConfigurationPlugin plugin,
                        Project project,
                        ProtobufExtension protobuf) {
             this.plugin = plugin;
             this.project = project;
             this.protobuf = protobuf;
+            this.artifact = project.getObjects().property(MavenArtifact.class);
+            artifact.set(project.provider(
+                    () -> artifact(project, SourceSetName.Companion.getMain())
+            ));
+            artifact.finalizeValueOnRead();
         }
 
         private void configure() {
@@ -124,27 +142,25 @@ public abstract class ProtocConfigurationPlugin implements Plugin<Project> {
          * {@linkplain ProtocConfigurationPlugin#customizeTask Customizes} the Protoc tasks in the
          * given collection.
          *
-         * <p>This method copies all the tasks from the given collection into a separate list,
-         * iterates over the list, and applies the plugin-implementation-specific customization
-         * to each task. The method does the extra copying in order to allow the plugin
-         * implementations to add new tasks to the project.
-         * Since the {@code GenerateProtoTaskCollection} is a live collection, adding new tasks
-         * to the project may cause concurrent modification issues, which are hard to debug.
+         * <p>The tasks are configured lazily via {@code configureEach}, so that the tasks
+         * which are not needed by the build are not configured. Using {@code configureEach}
+         * also allows the plugin implementations to add new tasks to the project without
+         * causing concurrent modification of the live {@code GenerateProtoTaskCollection}.
          *
          * @param tasks Protobuf code generation tasks from {@code protobuf.generateProtoTasks}.
          */
         private void configureProtocTasks(GenerateProtoTaskCollection tasks) {
-            var protocTasks = ImmutableList.copyOf(tasks.all());
-            protocTasks.forEach(t -> {
+            tasks.all().configureEach(t -> {
                 configureDescriptorSetGeneration(t);
                 plugin.customizeTask(t);
             });
         }
 
-        private static void configureDescriptorSetGeneration(GenerateProtoTask protocTask) {
+        private void configureDescriptorSetGeneration(GenerateProtoTask protocTask) {
             protocTask.setGenerateDescriptorSet(true);
             var options = protocTask.getDescriptorSetOptions();
-            var descriptorSetFile = getDescriptorSetFile(protocTask);
+            var descriptorSetFile =
+                    descriptorSetFile(project, artifact.get(), getSourceSetName(protocTask));
             options.setPath(descriptorSetFile.getPath());
             options.setIncludeImports(true);
             options.setIncludeSourceInfo(true);
@@ -31,6 +31,7 @@ package io.spine.tools.protobuf.gradle
 import com.google.protobuf.gradle.ProtobufExtension
 import io.spine.code.proto.FileDescriptors.DESC_EXTENSION
 import io.spine.tools.code.SourceSetName
+import io.spine.tools.code.SourceSetName.Companion.main
 import io.spine.tools.fs.DescriptorsDir
 import io.spine.tools.gradle.project.artifact
 import io.spine.tools.gradle.project.sourceSet
@@ -70,8 +71,24 @@ private val Project.descriptorsDir: DescriptorsDir
 /**
  * Obtains the descriptor set file for the specified source set of this project.
  */
-public fun Project.descriptorSetFile(ssn: SourceSetName): File {
-    val theArtifact = artifact(ssn)
+public fun Project.descriptorSetFile(ssn: SourceSetName): File =
+    descriptorSetFile(artifact(main), ssn)
+
+/**
+ * Obtains the descriptor set file for the specified source set of this project
+ * using the already obtained artifact of the project.
+ *
+ * Obtaining the [artifact] of a project may involve inspecting its publications.
+ * Callers that need descriptor set files of several source sets may obtain
+ * the artifact once and pass it to this function.
+ *
+ * @param artifact The artifact of the `main` source set of this project.
+ * @param ssn The name of the source set.
+ */
+public fun Project.descriptorSetFile(artifact: MavenArtifact, ssn: SourceSetName): File {
+    val theArtifact =
+        if (ssn == main) artifact
+        else MavenArtifact.of(artifact.group, artifact.name, artifact.version, ssn.value)
     val descriptorSetFile = theArtifact.descriptorSetFile()
     val dir = descriptorsDir.forSourceSet(ssn.value)
     val path = descriptorSetFile.under(dir)
@@ -29,6 +29,7 @@ package io.spine.tools.protobuf.gradle.plugin
 import com.google.protobuf.gradle.GenerateProtoTask
 import io.spine.annotation.Internal
 import io.spine.tools.fs.DirectoryName
+import io.spine.tools.gradle.metrics.BuildMetrics
 import io.spine.tools.gradle.project.hasJava
 import io.spine.tools.gradle.project.hasKotlin
 import io.spine.tools.gradle.task.findKotlinDirectorySet
@@ -42,6 +43,7 @@ import java.nio.file.Path
 import org.gradle.api.Project
 import org.gradle.api.file.ConfigurableFileCollection
 import org.gradle.api.file.SourceDirectorySet
+import org.gradle.api.provider.Provider
 import org.gradle.api.tasks.SourceSet
 import org.gradle.plugins.ide.idea.GenerateIdeaModule
 import org.jetbrains.kotlin.gradle.ExperimentalKotlinGradlePluginApi
@@ -77,8 +79,10 @@ public class GeneratedSourcePlugin : ProtobufSetupPlugin(), GeneratedDirectoryCo
         builtins.maybeCreate("kotlin")
         configureSourceSetDirs()
         declareGeneratedDirOutput()
+        val metrics = BuildMetrics.register(project)
+        usesService(metrics)
         doLast {
-            copyGeneratedFiles()
+            copyGeneratedFiles(metrics)
         }
         setupKotlinCompile()
         makeDirsForIdeaModule()
@@ -126,16 +130,44 @@ private fun GenerateProtoTask.declareGeneratedDirOutput() {
         .withPropertyName(GENERATED_DIR_PROPERTY)
 }
 
+/**
+ * The name of the file under the temporary directory of a [GenerateProtoTask] which
+ * stores the hashes of the files copied by [copyGeneratedFiles].
+ */
+private const val COPY_MANIFEST = "generated-files.sha256"
+
+private const val COPY_TIMER = "generatedSources.copy"
+private const val COPIED_COUNTER = "generatedSources.copied"
+private const val UNCHANGED_COUNTER = "generatedSources.unchanged"
+private const val DELETED_COUNTER = "generatedSources.deleted"
+
 /**
  * Copies files from the Protobuf plugin's output base directory into
  * our `$projectDir/generated` directory.
+ *
+ * Only the files with the changed content are written, so that the timestamps of
+ * the unchanged sources are preserved, and downstream compilation stays incremental.
+ * The files copied by the previous run, which were not generated this time, are deleted.
+ *
+ * @param metrics The service recording the time of copying and the numbers of files.
+ * @see IncrementalCopy
  */
 context(_: GeneratedDirectoryContext)
-private fun GenerateProtoTask.copyGeneratedFiles() {
-    project.copy { spec ->
-        spec.from(this@copyGeneratedFiles.outputBaseDir)
-        spec.into(generatedDir())
-    }
+private fun GenerateProtoTask.copyGeneratedFiles(metrics: Provider<BuildMetrics>) {
+    val copy = IncrementalCopy(
+        source = File(outputBaseDir),
+        target = generatedDir(),
+        manifest = temporaryDir.resolve(COPY_MANIFEST)
+    )
+    val buildMetrics = metrics.get()
+    val result = buildMetrics.time(COPY_TIMER) { copy.run() }
+    buildMetrics.count(COPIED_COUNTER, result.copied.toLong())
+    buildMetrics.count(UNCHANGED_COUNTER, result.unchanged.toLong())
+    buildMetrics.count(DELETED_COUNTER, result.deleted.toLong())
+    logger.info(
+        "Task `{}`: copied {}, unchanged {}, deleted {} generated files.",
+        path, result.copied, result.unchanged, result.deleted
+    )
 }
 
 /**
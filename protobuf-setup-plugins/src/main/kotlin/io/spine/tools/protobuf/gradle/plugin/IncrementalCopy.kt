@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protobuf.gradle.plugin
+
+import com.google.common.hash.HashCode
+import com.google.common.hash.Hashing
+import java.io.File
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption.REPLACE_EXISTING
+
+/**
+ * Copies files from the [source] directory into the [target] directory touching
+ * only the files whose content has changed.
+ *
+ * `GenerateProtoTask` recreates all the files in its output directory on each run.
+ * Copying them all into the `generated` directory would update timestamps of
+ * all the generated sources, making downstream compilation tasks redo the work even
+ * if only one proto file has changed. This class compares the content hashes of
+ * the files and leaves the unchanged files intact.
+ *
+ * The hashes of the copied files are stored in the [manifest] file. The manifest
+ * allows skipping reading the target files which are known to be up to date, and
+ * deleting the target files which no longer have the source counterparts.
+ * The files present in the [target] directory, but not mentioned in the manifest,
+ * are never deleted because they may be produced by other tools.
+ *
+ * @param source The directory to copy files from.
+ * @param target The directory to copy files to.
+ * @param manifest The file storing the hashes of the files copied by the previous run.
+ */
+internal class IncrementalCopy(
+    private val source: File,
+    private val target: File,
+    private val manifest: File
+) {
+
+    /**
+     * Performs the copying.
+     *
+     * @return the numbers of the copied, unchanged, and deleted files.
+     */
+    fun run(): Result {
+        val previous = readManifest()
+        val manifestTime = manifest.lastModified()
+        val current = hashSourceFiles()
+        var copied = 0
+        var unchanged = 0
+        current.forEach { (path, hash) ->
+            val from = source.resolve(path)
+            val to = target.resolve(path)
+            if (isUpToDate(from, to, hash, previous[path], manifestTime)) {
+                unchanged++
+            } else {
+                to.parentFile.mkdirs()
+                Files.copy(from.toPath(), to.toPath(), REPLACE_EXISTING)
+                copied++
+            }
+        }
+        var deleted = 0
+        (previous.keys - current.keys).forEach { path ->
+            val file = target.resolve(path)
+            if (file.delete()) {
+                deleted++
+                file.parentFile.deleteEmptyDirsUpTo(target)
+            }
+        }
+        writeManifest(current)
+        return Result(copied, unchanged, deleted)
+    }
+
+    /**
+     * Tells if the [to] file has the same content as the [from] file.
+     *
+     * The target file is not read if it was written by the previous run with the same
+     * content hash, and was not modified since then.
+     */
+    private fun isUpToDate(
+        from: File,
+        to: File,
+        hash: HashCode,
+        previousHash: HashCode?,
+        manifestTime: Long
+    ): Boolean = when {
+        !to.isFile || to.length() != from.length() -> false
+        hash == previousHash && to.lastModified() <= manifestTime -> true
+        else -> hashOf(to) == hash
+    }
+
+    /**
+     * Obtains hashes of the files in the [source] directory by their relative paths.
+     */
+    private fun hashSourceFiles(): Map<String, HashCode> {
+        if (!source.isDirectory) {
+            return emptyMap()
+        }
+        return source.walkTopDown()
+            .filter { it.isFile }
+            .associate { it.relativeTo(source).invariantSeparatorsPath to hashOf(it) }
+            .toSortedMap()
+    }
+
+    private fun readManifest(): Map<String, HashCode> {
+        if (!manifest.isFile) {
+            return emptyMap()
+        }
+        return manifest.readLines()
+            .filter { it.isNotBlank() }
+            .associate { line ->
+                val hash = line.substringBefore(SEPARATOR)
+                val path = line.substringAfter(SEPARATOR)
+                path to HashCode.fromString(hash)
+            }
+    }
+
+    private fun writeManifest(hashes: Map<String, HashCode>) {
+        manifest.parentFile?.mkdirs()
+        manifest.writeText(
+            hashes.entries.joinToString(separator = "") { (path, hash) ->
+                "$hash$SEPARATOR$path\n"
+            }
+        )
+    }
+
+    /**
+     * The outcome of [copying][run] the files.
+     *
+     * @property copied The number of files that were created or updated.
+     * @property unchanged The number of files left intact.
+     * @property deleted The number of files removed because their sources no longer exist.
+     */
+    data class Result(
+        val copied: Int,
+        val unchanged: Int,
+        val deleted: Int
+    )
+
+    private companion object {
+
+        /**
+         * Separates a hash from the path in a line of the manifest.
+         */
+        const val SEPARATOR = ' '
+    }
+}
+
+private fun hashOf(file: File): HashCode =
+    Hashing.sha256().hashBytes(file.readBytes())
+
+/**
+ * Deletes this directory and its parents while they are empty and
+ * reside under the given [root], excluding the root itself.
+ */
+private fun File.deleteEmptyDirsUpTo(root: File) {
+    var dir: File? = this
+    while (dir != null && dir != root && dir.startsWith(root) && dir.list()?.isEmpty() == true) {
+        dir.delete()
+        dir = dir.parentFile
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protobuf.gradle
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.kotest.matchers.types.shouldNotBeSameInstanceAs
+import io.spine.tools.type.FileDescriptorSuperset
+import io.spine.tools.type.MergedDescriptorSet
+import java.io.File
+import java.util.function.Supplier
+import org.gradle.testfixtures.ProjectBuilder
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`FileSetCache` should")
+internal class FileSetCacheSpec {
+
+    @TempDir
+    lateinit var dir: File
+
+    private lateinit var cache: FileSetCache
+
+    private var loads = 0
+
+    private val loader = Supplier<MergedDescriptorSet> {
+        loads++
+        FileDescriptorSuperset().merge()
+    }
+
+    @BeforeEach
+    fun createCache() {
+        val project = ProjectBuilder.builder().withProjectDir(dir).build()
+        cache = FileSetCache.register(project).get()
+    }
+
+    @Test
+    fun `be scoped to a build`() {
+        val otherBuild = ProjectBuilder.builder().build()
+
+        FileSetCache.register(otherBuild).get() shouldNotBeSameInstanceAs cache
+    }
+
+    @Test
+    fun `load a file set once while the files are unchanged`() {
+        val descriptorSet = dir.resolve("main.desc").apply { writeText("a") }
+        val dependency = dir.resolve("dep.jar").apply { writeText("b") }
+
+        val first = cache.get(descriptorSet, listOf(dependency), loader)
+        val second = cache.get(descriptorSet, listOf(dependency), loader)
+
+        second shouldBeSameInstanceAs first
+        loads shouldBe 1
+    }
+
+    @Test
+    fun `reload a file set when the classpath changes`() {
+        val descriptorSet = dir.resolve("main.desc").apply { writeText("a") }
+        val dependency = dir.resolve("dep.jar").apply { writeText("b") }
+
+        cache.get(descriptorSet, listOf(), loader)
+        cache.get(descriptorSet, listOf(dependency), loader)
+
+        loads shouldBe 2
+    }
+
+    @Test
+    fun `reload a file set when the descriptor set file changes`() {
+        val descriptorSet = dir.resolve("main.desc").apply { writeText("a") }
+
+        cache.get(descriptorSet, listOf(), loader)
+        descriptorSet.writeText("changed")
+        cache.get(descriptorSet, listOf(), loader)
+
+        loads shouldBe 2
+    }
+
+    @Test
+    fun `reload a file set when a file in a classpath directory changes`() {
+        val descriptorSet = dir.resolve("main.desc").apply { writeText("a") }
+        val classes = dir.resolve("classes").apply { mkdirs() }
+        val resource = classes.resolve("types.desc").apply { writeText("b") }
+
+        cache.get(descriptorSet, listOf(classes), loader)
+        resource.writeText("changed")
+        cache.get(descriptorSet, listOf(classes), loader)
+
+        loads shouldBe 2
+    }
+}
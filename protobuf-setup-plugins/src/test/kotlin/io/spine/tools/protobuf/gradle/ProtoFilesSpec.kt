@@ -51,4 +51,15 @@ internal class ProtoFilesSpec {
         val fileSet = supplier.get()
         fileSet.shouldNotBeNull()
     }
+
+    @Test
+    fun `supply a merged file set for a task using it`() {
+        val project = ProjectBuilder.builder().build()
+        project.pluginManager.apply(JavaPlugin::class.java)
+        val task = project.tasks.register("generateCode").get()
+
+        val supplier = ProtoFiles.collect(task, main)
+
+        supplier.get().shouldNotBeNull()
+    }
 }
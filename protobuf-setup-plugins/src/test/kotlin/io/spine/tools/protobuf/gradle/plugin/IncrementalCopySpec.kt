@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protobuf.gradle.plugin
+
+import io.kotest.matchers.shouldBe
+import java.io.File
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`IncrementalCopy` should")
+class IncrementalCopySpec {
+
+    @TempDir
+    lateinit var dir: File
+
+    private lateinit var source: File
+    private lateinit var target: File
+    private lateinit var copy: IncrementalCopy
+
+    @BeforeEach
+    fun createDirs() {
+        source = dir.resolve("source")
+        target = dir.resolve("target")
+        copy = IncrementalCopy(source, target, dir.resolve("tmp/manifest"))
+    }
+
+    private fun write(root: File, path: String, content: String) {
+        val file = root.resolve(path)
+        file.parentFile.mkdirs()
+        file.writeText(content)
+    }
+
+    @Test
+    fun `copy all files on the first run`() {
+        write(source, "java/Foo.java", "class Foo {}")
+        write(source, "kotlin/Bar.kt", "class Bar")
+
+        copy.run() shouldBe IncrementalCopy.Result(copied = 2, unchanged = 0, deleted = 0)
+
+        target.resolve("java/Foo.java").readText() shouldBe "class Foo {}"
+        target.resolve("kotlin/Bar.kt").readText() shouldBe "class Bar"
+    }
+
+    @Test
+    fun `not touch the files with the same content`() {
+        write(source, "java/Foo.java", "class Foo {}")
+        write(source, "java/Bar.java", "class Bar {}")
+        copy.run()
+        val foo = target.resolve("java/Foo.java")
+        foo.setLastModified(1_000L)
+
+        // Regenerate the files as `protoc` does, changing only one of them.
+        write(source, "java/Foo.java", "class Foo {}")
+        write(source, "java/Bar.java", "class Bar { int x; }")
+
+        copy.run() shouldBe IncrementalCopy.Result(copied = 1, unchanged = 1, deleted = 0)
+
+        foo.lastModified() shouldBe 1_000L
+        target.resolve("java/Bar.java").readText() shouldBe "class Bar { int x; }"
+    }
+
+    @Test
+    fun `delete previously copied files which are no longer generated`() {
+        write(source, "java/pkg/Foo.java", "class Foo {}")
+        write(source, "java/Bar.java", "class Bar {}")
+        copy.run()
+
+        source.resolve("java/pkg/Foo.java").delete()
+
+        copy.run() shouldBe IncrementalCopy.Result(copied = 0, unchanged = 1, deleted = 1)
+
+        target.resolve("java/pkg").exists() shouldBe false
+        target.resolve("java/Bar.java").exists() shouldBe true
+    }
+
+    @Test
+    fun `keep the files not copied by it`() {
+        write(target, "java/Custom.java", "class Custom {}")
+        write(source, "java/Foo.java", "class Foo {}")
+
+        copy.run()
+        source.resolve("java/Foo.java").delete()
+        copy.run()
+
+        target.resolve("java/Custom.java").exists() shouldBe true
+        target.resolve("java/Foo.java").exists() shouldBe false
+    }
+
+    @Test
+    fun `restore a modified target file`() {
+        write(source, "java/Foo.java", "class Foo {}")
+        copy.run()
+        // Same length, different content, written after the manifest.
+        write(target, "java/Foo.java", "class Baz {}")
+        target.resolve("java/Foo.java").setLastModified(System.currentTimeMillis() + 10_000L)
+
+        copy.run() shouldBe IncrementalCopy.Result(copied = 1, unchanged = 0, deleted = 0)
+
+        target.resolve("java/Foo.java").readText() shouldBe "class Foo {}"
+    }
+}
@@ -32,6 +32,7 @@ import io.spine.dependency.lib.GrpcKotlin
 import io.spine.dependency.lib.Protobuf
 import io.spine.dependency.local.Base
 import io.spine.dependency.local.Logging
+import io.spine.dependency.test.Jmh
 
 plugins {
     module
@@ -39,6 +40,7 @@ plugins {
     protobuf
     id("io.spine.descriptor-set-file")
     id("io.spine.generated-sources")
+    jmh
 }
 
 configurations {
@@ -97,4 +99,8 @@ protobuf {
     }
 }
 
+jmh {
+    jmhVersion.set(Jmh.version)
+}
+
 allowDuplicationInSourcesJar()
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.dart.fs
+
+import io.spine.tools.fs.DirectoryPattern
+import io.spine.tools.fs.ExternalModule
+import io.spine.tools.fs.ExternalModules
+import java.nio.file.Path
+import java.util.concurrent.TimeUnit
+import kotlin.io.path.createDirectories
+import kotlin.io.path.createTempDirectory
+import kotlin.io.path.writeLines
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Compares scanning of Dart source lines by [Directive] with the regular expression
+ * used by `ImportStatement` before, and measures the resolution of imports
+ * in a [DartFile].
+ *
+ * The lines resemble a generated Dart file: a header of comments and imports
+ * followed by a body where no line is an import.
+ *
+ * Run with `./gradlew :tool-base:jmh`. Add `-prof gc` to JMH arguments to see
+ * the allocation rate of each benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class DirectiveBenchmark {
+
+    private lateinit var lines: List<String>
+    private lateinit var libDir: Path
+    private lateinit var file: DartFile
+
+    @Setup
+    fun setUp() {
+        val header = listOf(
+            "// Generated code. Do not modify.",
+            "//  source: spine/example/task.proto",
+            "",
+            "import 'dart:core' as \$core;",
+            "import 'package:protobuf/protobuf.dart' as \$pb;",
+        ) + (0 until IMPORTS).map { "import '../types/type_$it.pb.dart' as \$$it;" }
+        val body = (0 until BODY_LINES).map {
+            when (it % 4) {
+                0 -> "class Task$it extends \$pb.GeneratedMessage {"
+                1 -> "  static final \$pb.BuilderInfo _i = \$pb.BuilderInfo('Task$it');"
+                2 -> "  @\$core.override"
+                else -> "}"
+            }
+        }
+        lines = header + body
+        libDir = createTempDirectory("directive-benchmark")
+        val path = libDir.resolve("sub").createDirectories().resolve("task.pb.dart")
+        path.writeLines(lines)
+        file = DartFile.read(path)
+    }
+
+    @TearDown
+    fun tearDown() {
+        libDir.toFile().deleteRecursively()
+    }
+
+    /**
+     * Resolves the imports of a Dart file as `TreeImportResolver` does.
+     *
+     * None of the modules provides the imported files, so the file is never rewritten,
+     * and each run loads the file, and then recognizes and resolves its imports.
+     */
+    @Benchmark
+    fun resolveFile(): Int = file.resolveImportsAndCount(libDir, MODULES)
+
+    /**
+     * Recognizes and resolves the imports in the lines of a Dart file, as
+     * [DartFile.resolveImportsAndCount] does after loading the file.
+     */
+    @Benchmark
+    fun resolveLines(bh: Blackhole) {
+        lines.forEach {
+            val statement = ImportStatement.declaredIn(file, it)
+            if (statement != null) {
+                bh.consume(statement.resolve(libDir, MODULES))
+            }
+        }
+    }
+
+    /**
+     * Recognizes and parses import lines in one pass.
+     */
+    @Benchmark
+    fun scan(bh: Blackhole) {
+        lines.forEach {
+            val directive = Directive.scan(it)
+            if (directive != null && directive.isResolvable()) {
+                bh.consume(directive.uri())
+                bh.consume(directive.prefix())
+            }
+        }
+    }
+
+    /**
+     * Matches each line against the regular expression, and then matches
+     * import lines again to parse them, as `DartFile` and `ImportStatement` did.
+     */
+    @Benchmark
+    fun regex(bh: Blackhole) {
+        lines.forEach {
+            if (PATTERN.matcher(it).matches()) {
+                val matcher = PATTERN.matcher(it)
+                matcher.matches()
+                bh.consume(matcher.group(1))
+                bh.consume(matcher.group(2))
+            }
+        }
+    }
+
+    private companion object {
+        const val IMPORTS = 40
+        const val BODY_LINES = 2_000
+
+        /**
+         * The modules which do not provide the files imported by the benchmarked lines.
+         */
+        val MODULES = ExternalModules(
+            ExternalModule("other", DirectoryPattern.listOf("unrelated"))
+        )
+
+        /**
+         * The pattern formerly used to recognize and parse import statements.
+         */
+        val PATTERN = Regex("import [\"']([^:]+)[\"'] as (.+);").toPattern()
+    }
+}
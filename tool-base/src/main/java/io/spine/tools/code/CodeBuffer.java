@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.code;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.annotation.Internal;
+
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A reusable buffer for generated code.
+ *
+ * <p>The buffer keeps the current {@linkplain Indent indentation} and appends indented
+ * lines into a single {@link StringBuilder}. Lines are not turned into
+ * {@link IndentedLine}s, and {@link IndentedLine}s are re-indented in place, so that
+ * building and shifting large blocks of code does not create intermediate strings.
+ *
+ * <p>After the code is {@linkplain #appendTo(Appendable) written out}, the buffer may be
+ * {@linkplain #clear() cleared} and used again, keeping its allocated capacity.
+ *
+ * <p>The lines are separated by {@linkplain System#lineSeparator() the system line separator}.
+ * Empty lines are not indented.
+ *
+ * <p>This class is not thread-safe.
+ */
+@Internal
+public final class CodeBuffer implements Element {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * The capacity of the builder above which it is not kept after {@link #clear()}.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+    private final Indent initialIndent;
+    private Indent indent;
+
+    /**
+     * Creates a new buffer which starts writing code with the given indentation.
+     */
+    public CodeBuffer(Indent indent) {
+        this.initialIndent = checkNotNull(indent);
+        this.indent = indent;
+    }
+
+    /**
+     * Obtains the current indentation of the lines.
+     */
+    public Indent indent() {
+        return indent;
+    }
+
+    /**
+     * Shifts the indentation of the following lines to the right by one level.
+     */
+    @CanIgnoreReturnValue
+    public CodeBuffer shiftRight() {
+        indent = indent.shiftedRight();
+        return this;
+    }
+
+    /**
+     * Shifts the indentation of the following lines to the left by one level.
+     *
+     * @throws IllegalStateException
+     *         if the indentation is already at the zero column
+     */
+    @CanIgnoreReturnValue
+    public CodeBuffer shiftLeft() {
+        indent = indent.shiftedLeft();
+        return this;
+    }
+
+    /**
+     * Appends a line with the given code at the current indentation.
+     */
+    @CanIgnoreReturnValue
+    public CodeBuffer line(String code) {
+        checkNotNull(code);
+        if (!code.isEmpty()) {
+            builder.append(indent.text())
+                   .append(code);
+        }
+        builder.append(LINE_SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Appends a line with the text of the given element at the current indentation.
+     */
+    @CanIgnoreReturnValue
+    public CodeBuffer line(Element code) {
+        checkNotNull(code);
+        return line(code.text());
+    }
+
+    /**
+     * Appends an empty line.
+     */
+    @CanIgnoreReturnValue
+    public CodeBuffer emptyLine() {
+        builder.append(LINE_SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Appends the given line with its indentation adjusted by the given number of levels.
+     *
+     * <p>The code of the line is prefixed with its indentation shifted by the given
+     * number of levels, without creating a new line. A line with empty code is appended
+     * as the line separator only, without indentation. The current indentation of
+     * the buffer is not applied.
+     *
+     * @throws IllegalArgumentException
+     *         if the resulting indentation is negative
+     */
+    @CanIgnoreReturnValue
+    public CodeBuffer line(IndentedLine line, int shift) {
+        checkNotNull(line);
+        var lineIndent = line.indent();
+        var level = lineIndent.level() + shift;
+        checkArgument(level >= 0,
+                      "Cannot shift the line `%s` to the left by `%s` levels.", line, -shift);
+        var code = line.code().text();
+        if (!code.isEmpty()) {
+            builder.append(Indent.text(lineIndent.size(), level))
+                   .append(code);
+        }
+        builder.append(LINE_SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Appends the given lines with their indentation adjusted by the given number of levels.
+     *
+     * @see #line(IndentedLine, int)
+     */
+    @CanIgnoreReturnValue
+    public CodeBuffer lines(Iterable<IndentedLine> lines, int shift) {
+        checkNotNull(lines);
+        for (var line : lines) {
+            line(line, shift);
+        }
+        return this;
+    }
+
+    /**
+     * Obtains the number of chars in the buffer.
+     */
+    public int length() {
+        return builder.length();
+    }
+
+    /**
+     * Obtains the code accumulated in the buffer without copying it.
+     *
+     * <p>The returned sequence changes along with the buffer.
+     */
+    CharSequence content() {
+        return builder;
+    }
+
+    /**
+     * Appends the code of this buffer to the given output.
+     *
+     * @throws IOException
+     *         if the output fails to append the code
+     */
+    public void appendTo(Appendable out) throws IOException {
+        checkNotNull(out);
+        out.append(builder);
+    }
+
+    /**
+     * Removes all the code from the buffer and resets the indentation to the initial one.
+     *
+     * <p>The allocated capacity is kept for the following code, unless the buffer
+     * has grown larger than a megabyte of chars.
+     */
+    public void clear() {
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            builder = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            builder.setLength(0);
+        }
+        indent = initialIndent;
+    }
+
+    /**
+     * Obtains the code accumulated in the buffer.
+     */
+    @Override
+    public String text() {
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+}
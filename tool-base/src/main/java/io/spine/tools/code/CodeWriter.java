@@ -0,0 +1,381 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.code;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.annotation.Internal;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.nio.charset.CodingErrorAction.REPLACE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes generated code to a channel as it goes.
+ *
+ * <p>The writer keeps the current {@linkplain Indent indentation} and accepts lines of
+ * code as strings or {@link Element}s. The text is collected in a fixed-size buffer,
+ * encoded into UTF-8 in another fixed-size buffer, and written to the channel each time
+ * the buffer is full. Thus, the memory used by the writer does not depend on the size
+ * of the written code.
+ *
+ * <p>A file may start with a header of comments in the {@link Language} of the file.
+ *
+ * <p>The lines are separated by {@linkplain System#lineSeparator() the system line separator},
+ * and empty lines are not indented, the same way as in {@link CodeBuffer}.
+ *
+ * <p>Closing the writer writes the rest of the code and closes the channel.
+ *
+ * <p>This class is not thread-safe.
+ */
+@Internal
+public final class CodeWriter implements Closeable, Flushable {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * The default number of chars buffered before encoding them.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * The minimum size of the buffer, which fits any char in UTF-8.
+     */
+    private static final int MIN_BUFFER_SIZE = 4;
+
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+    private Indent indent;
+    private boolean closed;
+
+    private CodeWriter(WritableByteChannel channel, Indent indent, int bufferSize) {
+        this.channel = channel;
+        this.indent = indent;
+        this.encoder = UTF_8.newEncoder()
+                            .onMalformedInput(REPLACE)
+                            .onUnmappableCharacter(REPLACE);
+        this.chars = CharBuffer.allocate(bufferSize);
+        this.bytes = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Creates a writer to the given file.
+     *
+     * <p>If the file exists, it is overwritten.
+     *
+     * @param file
+     *         the file to write
+     * @param indent
+     *         the indentation of the first line
+     * @throws IOException
+     *         if the file cannot be opened for writing
+     */
+    public static CodeWriter to(Path file, Indent indent) throws IOException {
+        checkNotNull(file);
+        checkNotNull(indent);
+        var channel = FileChannel.open(file, WRITE, CREATE, TRUNCATE_EXISTING);
+        return new CodeWriter(channel, indent, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a writer to the given channel with the default buffer size.
+     *
+     * @param channel
+     *         the channel to write, which is closed along with the writer
+     * @param indent
+     *         the indentation of the first line
+     */
+    public static CodeWriter to(WritableByteChannel channel, Indent indent) {
+        return to(channel, indent, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a writer to the given channel.
+     *
+     * @param channel
+     *         the channel to write, which is closed along with the writer
+     * @param indent
+     *         the indentation of the first line
+     * @param bufferSize
+     *         the number of chars buffered before encoding them, and the number of
+     *         bytes buffered before writing them to the channel
+     */
+    public static CodeWriter to(WritableByteChannel channel, Indent indent, int bufferSize) {
+        checkNotNull(channel);
+        checkNotNull(indent);
+        checkArgument(bufferSize >= MIN_BUFFER_SIZE,
+                      "The buffer size must be at least `%s`. Passed: `%s`.",
+                      MIN_BUFFER_SIZE, bufferSize);
+        return new CodeWriter(channel, indent, bufferSize);
+    }
+
+    /**
+     * Obtains the current indentation of the lines.
+     */
+    public Indent indent() {
+        return indent;
+    }
+
+    /**
+     * Shifts the indentation of the following lines to the right by one level.
+     */
+    @CanIgnoreReturnValue
+    public CodeWriter shiftRight() {
+        indent = indent.shiftedRight();
+        return this;
+    }
+
+    /**
+     * Shifts the indentation of the following lines to the left by one level.
+     *
+     * @throws IllegalStateException
+     *         if the indentation is already at the zero column
+     */
+    @CanIgnoreReturnValue
+    public CodeWriter shiftLeft() {
+        indent = indent.shiftedLeft();
+        return this;
+    }
+
+    /**
+     * Writes the given lines as comments in the given language at the current indentation.
+     *
+     * @param language
+     *         the language of the written code
+     * @param lines
+     *         the contents of the comment lines
+     * @throws UnsupportedOperationException
+     *         if the language does not support comments
+     * @throws IOException
+     *         if the code cannot be written to the channel
+     * @see Language#comment(String)
+     */
+    @CanIgnoreReturnValue
+    public CodeWriter header(Language language, Iterable<String> lines) throws IOException {
+        checkNotNull(language);
+        checkNotNull(lines);
+        for (var line : lines) {
+            line(language.comment(line));
+        }
+        return this;
+    }
+
+    /**
+     * Writes a line with the given code at the current indentation.
+     *
+     * @throws IOException
+     *         if the code cannot be written to the channel
+     */
+    @CanIgnoreReturnValue
+    public CodeWriter line(String code) throws IOException {
+        checkNotNull(code);
+        if (!code.isEmpty()) {
+            append(indent.text());
+            append(code);
+        }
+        append(LINE_SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Writes a line with the text of the given element at the current indentation.
+     *
+     * @throws IOException
+     *         if the code cannot be written to the channel
+     */
+    @CanIgnoreReturnValue
+    public CodeWriter line(Element code) throws IOException {
+        checkNotNull(code);
+        return line(code.text());
+    }
+
+    /**
+     * Writes the given line with its indentation adjusted by the given number of levels.
+     *
+     * <p>A line with empty code is written as the line separator only, without
+     * indentation. The current indentation of the writer is not applied.
+     *
+     * @throws IllegalArgumentException
+     *         if the resulting indentation is negative
+     * @throws IOException
+     *         if the code cannot be written to the channel
+     * @see CodeBuffer#line(IndentedLine, int)
+     */
+    @CanIgnoreReturnValue
+    public CodeWriter line(IndentedLine line, int shift) throws IOException {
+        checkNotNull(line);
+        var lineIndent = line.indent();
+        var level = lineIndent.level() + shift;
+        checkArgument(level >= 0,
+                      "Cannot shift the line `%s` to the left by `%s` levels.", line, -shift);
+        var code = line.code().text();
+        if (!code.isEmpty()) {
+            append(Indent.text(lineIndent.size(), level));
+            append(code);
+        }
+        append(LINE_SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Writes an empty line.
+     *
+     * @throws IOException
+     *         if the code cannot be written to the channel
+     */
+    @CanIgnoreReturnValue
+    public CodeWriter emptyLine() throws IOException {
+        append(LINE_SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Writes the text of the given element as is.
+     *
+     * <p>Neither indentation nor line separator is added.
+     *
+     * @throws IOException
+     *         if the code cannot be written to the channel
+     */
+    @CanIgnoreReturnValue
+    public CodeWriter write(Element element) throws IOException {
+        checkNotNull(element);
+        append(element.text());
+        return this;
+    }
+
+    /**
+     * Writes the code accumulated in the given buffer as is.
+     *
+     * <p>The code is copied from the buffer without creating an intermediate string.
+     *
+     * @throws IOException
+     *         if the code cannot be written to the channel
+     */
+    @CanIgnoreReturnValue
+    public CodeWriter write(CodeBuffer buffer) throws IOException {
+        checkNotNull(buffer);
+        append(buffer.content());
+        return this;
+    }
+
+    /**
+     * Encodes the buffered code and writes it to the channel.
+     *
+     * <p>A char which needs the following one to be encoded, such as a high surrogate,
+     * stays in the buffer.
+     */
+    @Override
+    public void flush() throws IOException {
+        checkOpen();
+        encode(false);
+        writeBytes();
+    }
+
+    /**
+     * Writes the rest of the code and closes the channel.
+     *
+     * <p>Does nothing if the writer is already closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (channel) {
+            encode(true);
+            while (encoder.flush(bytes).isOverflow()) {
+                writeBytes();
+            }
+            writeBytes();
+        }
+    }
+
+    private void append(CharSequence text) throws IOException {
+        checkOpen();
+        var length = text.length();
+        var start = 0;
+        while (start < length) {
+            var count = Math.min(chars.remaining(), length - start);
+            var end = start + count;
+            if (text instanceof String) {
+                var position = chars.position();
+                ((String) text).getChars(start, end, chars.array(), position);
+                chars.position(position + count);
+            } else {
+                for (var i = start; i < end; i++) {
+                    chars.put(text.charAt(i));
+                }
+            }
+            start = end;
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+        }
+    }
+
+    /**
+     * Encodes the buffered chars writing the bytes to the channel when
+     * the byte buffer is full.
+     */
+    private void encode(boolean endOfInput) throws IOException {
+        chars.flip();
+        while (encoder.encode(chars, bytes, endOfInput).isOverflow()) {
+            writeBytes();
+        }
+        chars.compact();
+    }
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+
+    private void checkOpen() {
+        checkState(!closed, "The code writer is already closed.");
+    }
+}
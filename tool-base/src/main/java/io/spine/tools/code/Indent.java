@@ -28,6 +28,7 @@ package io.spine.tools.code;
 
 import com.google.errorprone.annotations.Immutable;
 import io.spine.annotation.Internal;
+import org.jspecify.annotations.Nullable;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -49,6 +50,25 @@ public final class Indent implements Element, Serializable {
     private static final Indent TWO = new Indent(2, 0);
     private static final Indent FOUR = new Indent(4, 0);
 
+    /**
+     * The maximum size of indentation with cached texts.
+     */
+    private static final int MAX_CACHED_SIZE = 8;
+
+    /**
+     * The maximum level of indentation with cached texts.
+     */
+    private static final int MAX_CACHED_LEVEL = 32;
+
+    /**
+     * The texts of indentation by size and level.
+     *
+     * <p>The texts are created on the first request. Writing a text more than once
+     * from racing threads is harmless, since the texts are equal.
+     */
+    private static final @Nullable String[][] texts =
+            new String[MAX_CACHED_SIZE + 1][MAX_CACHED_LEVEL + 1];
+
     /**
      * The number of {@link #SPACE} characters are put for each {@link #level} of indentation.
      */
@@ -170,7 +190,25 @@ public final class Indent implements Element, Serializable {
      */
     @Override
     public String text() {
-        var text = SPACE.repeat(size * level);
+        return text(size, level);
+    }
+
+    /**
+     * Obtains the text of indentation of the given size at the given level.
+     *
+     * <p>The texts of indentation up to {@value #MAX_CACHED_SIZE} spaces at levels up
+     * to {@value #MAX_CACHED_LEVEL} are created once.
+     */
+    static String text(int size, int level) {
+        if (size > MAX_CACHED_SIZE || level > MAX_CACHED_LEVEL) {
+            return SPACE.repeat(size * level);
+        }
+        var bySize = texts[size];
+        var text = bySize[level];
+        if (text == null) {
+            text = SPACE.repeat(size * level);
+            bySize[level] = text;
+        }
         return text;
     }
 
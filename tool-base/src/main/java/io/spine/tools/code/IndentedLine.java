@@ -48,7 +48,7 @@ public final class IndentedLine extends Line {
     private final Line code;
 
     private IndentedLine(Indent indent, Line code) {
-        super(indent + code.text());
+        super(indent.text().concat(code.text()));
         this.code = code;
         this.indent = indent;
     }
@@ -89,6 +89,20 @@ public final class IndentedLine extends Line {
         return new IndentedLine(newIndent, code);
     }
 
+    /**
+     * Obtains the indentation of this line.
+     */
+    Indent indent() {
+        return indent;
+    }
+
+    /**
+     * Obtains the code of this line without indentation.
+     */
+    Line code() {
+        return code;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
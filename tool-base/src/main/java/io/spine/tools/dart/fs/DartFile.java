@@ -28,6 +28,8 @@ package io.spine.tools.dart.fs;
 
 import io.spine.tools.fs.ExternalModules;
 import io.spine.tools.fs.FileWithImports;
+import io.spine.tools.fs.TreeImportResolver;
+import org.jspecify.annotations.Nullable;
 
 import java.nio.file.Path;
 
@@ -38,6 +40,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public final class DartFile extends FileWithImports {
 
+    /**
+     * The extension of Dart source files.
+     */
+    private static final String EXTENSION = ".dart";
+
     private DartFile(Path path) {
         super(path);
     }
@@ -52,15 +59,61 @@ public final class DartFile extends FileWithImports {
         return file;
     }
 
+    /**
+     * Creates a resolver of imports in all the Dart files under a directory.
+     *
+     * @param modules
+     *         the modules to resolve imports with
+     */
+    public static TreeImportResolver importResolver(ExternalModules modules) {
+        checkNotNull(modules);
+        return new TreeImportResolver(EXTENSION, DartFile::new, modules);
+    }
+
     @Override
     protected boolean isImport(String line) {
         return ImportStatement.isDeclaredIn(line);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Also treats as a part of the header the directives not recognized as
+     * resolvable imports, such as imports of {@code dart:} or {@code package:} libraries,
+     * and {@code library}, {@code export}, and {@code part} directives.
+     */
+    @Override
+    protected boolean isHeaderLine(String line) {
+        if (super.isHeaderLine(line)) {
+            return true;
+        }
+        var trimmed = line.strip();
+        return trimmed.startsWith("import ")
+                || trimmed.startsWith("export ")
+                || trimmed.startsWith("library ")
+                || trimmed.startsWith("part ");
+    }
+
     @Override
     protected String resolveImport(String line, Path libPath, ExternalModules modules) {
         var statement = ImportStatement.in(this, line);
         var resolved = statement.resolve(libPath, modules);
         return resolved.text();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Scans the line only once, both to recognize and to resolve the import statement.
+     */
+    @Override
+    protected @Nullable String
+    resolveIfImport(String line, Path libPath, ExternalModules modules) {
+        var statement = ImportStatement.declaredIn(this, line);
+        if (statement == null) {
+            return null;
+        }
+        var resolved = statement.resolve(libPath, modules);
+        return resolved.text();
+    }
 }
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.dart.fs;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Immutable;
+import org.jspecify.annotations.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A single-line Dart directive which refers to another file by its URI.
+ *
+ * <p>Recognized directives are:
+ * <ul>
+ *     <li>{@code import 'uri' [deferred] [as prefix] [show names] [hide names];}
+ *     <li>{@code export 'uri' [show names] [hide names];}
+ *     <li>{@code part 'uri';}
+ * </ul>
+ *
+ * <p>Directives are recognized by a hand-written scanner which reads the line once,
+ * parsing the directive as it goes. Lines that do not start with one of the keywords
+ * are rejected after looking at their first non-blank character.
+ *
+ * <p>Conditional imports and {@code part of} directives are not recognized.
+ */
+@Immutable
+final class Directive {
+
+    /**
+     * The kind of a directive named after its keyword.
+     */
+    enum Kind {
+        IMPORT("import"),
+        EXPORT("export"),
+        PART("part");
+
+        private final String keyword;
+
+        Kind(String keyword) {
+            this.keyword = keyword;
+        }
+
+        String keyword() {
+            return keyword;
+        }
+    }
+
+    private final Kind kind;
+    private final String text;
+    private final int uriStart;
+    private final int uriEnd;
+    private final boolean deferred;
+    private final @Nullable String prefix;
+    private final ImmutableList<String> shown;
+    private final ImmutableList<String> hidden;
+
+    private Directive(Scanner scanner) {
+        this.kind = checkNotNull(scanner.kind);
+        this.text = scanner.text;
+        this.uriStart = scanner.uriStart;
+        this.uriEnd = scanner.uriEnd;
+        this.deferred = scanner.deferred;
+        this.prefix = scanner.prefix;
+        this.shown = scanner.shown.build();
+        this.hidden = scanner.hidden.build();
+    }
+
+    /**
+     * Scans the given line for a directive.
+     *
+     * @return the directive declared by the line, or {@code null} if
+     *         the line is not a recognized directive
+     */
+    static @Nullable Directive scan(String line) {
+        checkNotNull(line);
+        var scanner = new Scanner(line);
+        return scanner.scan() ? new Directive(scanner) : null;
+    }
+
+    /**
+     * Obtains the kind of this directive.
+     */
+    Kind kind() {
+        return kind;
+    }
+
+    /**
+     * Obtains the source code line of this directive.
+     */
+    String text() {
+        return text;
+    }
+
+    /**
+     * Obtains the URI of the referenced file as declared, without quotes.
+     */
+    String uri() {
+        return text.substring(uriStart, uriEnd);
+    }
+
+    /**
+     * Tells if the URI of the referenced file is relative to the declaring file.
+     *
+     * <p>URIs with a scheme, such as {@code package:} or {@code dart:}, are not relative.
+     */
+    boolean isRelative() {
+        var colon = text.indexOf(':', uriStart);
+        return colon < 0 || colon >= uriEnd;
+    }
+
+    /**
+     * Tells if this is an {@code import} or {@code export} of a file relative to
+     * the declaring one.
+     *
+     * <p>Only such directives may be resolved against external modules. {@code part}
+     * directives are not resolved since a part must belong to the same library.
+     */
+    boolean isResolvable() {
+        return kind != Kind.PART && isRelative();
+    }
+
+    /**
+     * Tells if this is a deferred import.
+     */
+    boolean isDeferred() {
+        return deferred;
+    }
+
+    /**
+     * Obtains the prefix declared with {@code as}, or {@code null} if there is none.
+     */
+    @Nullable String prefix() {
+        return prefix;
+    }
+
+    /**
+     * Obtains the names listed in {@code show} clauses.
+     */
+    ImmutableList<String> shown() {
+        return shown;
+    }
+
+    /**
+     * Obtains the names listed in {@code hide} clauses.
+     */
+    ImmutableList<String> hidden() {
+        return hidden;
+    }
+
+    /**
+     * Creates the text of the same directive referring to the given URI.
+     *
+     * <p>The rest of the line, including quotes, prefix, and combinators,
+     * is kept as is.
+     */
+    String withUri(String uri) {
+        checkNotNull(uri);
+        return text.substring(0, uriStart) + uri + text.substring(uriEnd);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    /**
+     * Reads a directive from a line char by char.
+     *
+     * <p>The scanner accumulates the parts of the directive in its fields, which are
+     * meaningful only if {@link #scan()} returned {@code true}.
+     */
+    private static final class Scanner {
+
+        private final String text;
+        private final int length;
+        private int pos;
+
+        private @Nullable Kind kind;
+        private int uriStart;
+        private int uriEnd;
+        private boolean deferred;
+        private @Nullable String prefix;
+        private final ImmutableList.Builder<String> shown = ImmutableList.builder();
+        private final ImmutableList.Builder<String> hidden = ImmutableList.builder();
+        private boolean combinators;
+
+        private Scanner(String text) {
+            this.text = text;
+            this.length = text.length();
+        }
+
+        private boolean scan() {
+            skipSpaces();
+            kind = keyword();
+            if (kind == null || !uri()) {
+                return false;
+            }
+            while (true) {
+                skipSpaces();
+                if (pos == length) {
+                    return false;
+                }
+                if (text.charAt(pos) == ';') {
+                    pos++;
+                    return end();
+                }
+                var word = identifier();
+                if (word == null || !clause(word)) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Reads the keyword at the current position.
+         *
+         * <p>Looks at a single char to reject lines that cannot be directives.
+         */
+        private @Nullable Kind keyword() {
+            if (pos == length) {
+                return null;
+            }
+            Kind candidate;
+            switch (text.charAt(pos)) {
+                case 'i':
+                    candidate = Kind.IMPORT;
+                    break;
+                case 'e':
+                    candidate = Kind.EXPORT;
+                    break;
+                case 'p':
+                    candidate = Kind.PART;
+                    break;
+                default:
+                    return null;
+            }
+            var keyword = candidate.keyword();
+            if (!text.startsWith(keyword, pos)) {
+                return null;
+            }
+            pos += keyword.length();
+            var boundary = pos < length && (isSpace(text.charAt(pos)) || isQuote(text.charAt(pos)));
+            return boundary ? candidate : null;
+        }
+
+        /**
+         * Reads the quoted URI which must follow the keyword.
+         */
+        private boolean uri() {
+            skipSpaces();
+            if (pos == length || !isQuote(text.charAt(pos))) {
+                return false;
+            }
+            var quote = text.charAt(pos);
+            uriStart = pos + 1;
+            uriEnd = text.indexOf(quote, uriStart);
+            if (uriEnd <= uriStart) {
+                return false;
+            }
+            pos = uriEnd + 1;
+            return true;
+        }
+
+        /**
+         * Reads a clause starting with the given word.
+         *
+         * <p>Clauses must follow in the order defined by the Dart grammar:
+         * {@code deferred}, {@code as}, and then any number of {@code show}
+         * and {@code hide} combinators.
+         */
+        private boolean clause(String word) {
+            switch (word) {
+                case "deferred":
+                    if (kind != Kind.IMPORT || deferred || prefix != null || combinators) {
+                        return false;
+                    }
+                    deferred = true;
+                    return true;
+                case "as":
+                    if (kind != Kind.IMPORT || prefix != null || combinators) {
+                        return false;
+                    }
+                    skipSpaces();
+                    prefix = identifier();
+                    return prefix != null;
+                case "show":
+                    return kind != Kind.PART && names(shown);
+                case "hide":
+                    return kind != Kind.PART && names(hidden);
+                default:
+                    return false;
+            }
+        }
+
+        /**
+         * Reads a comma-separated list of names of a combinator.
+         */
+        private boolean names(ImmutableList.Builder<String> target) {
+            combinators = true;
+            while (true) {
+                skipSpaces();
+                var name = identifier();
+                if (name == null) {
+                    return false;
+                }
+                target.add(name);
+                skipSpaces();
+                if (pos == length || text.charAt(pos) != ',') {
+                    return true;
+                }
+                pos++;
+            }
+        }
+
+        /**
+         * Checks that nothing but blanks or a line comment follows the semicolon.
+         */
+        private boolean end() {
+            if (deferred && prefix == null) {
+                return false;
+            }
+            skipSpaces();
+            return pos == length || text.startsWith("//", pos);
+        }
+
+        private @Nullable String identifier() {
+            var start = pos;
+            if (pos == length || !isIdentifierStart(text.charAt(pos))) {
+                return null;
+            }
+            pos++;
+            while (pos < length && isIdentifierPart(text.charAt(pos))) {
+                pos++;
+            }
+            return text.substring(start, pos);
+        }
+
+        private void skipSpaces() {
+            while (pos < length && isSpace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private static boolean isSpace(char c) {
+            return c == ' ' || c == '\t';
+        }
+
+        private static boolean isQuote(char c) {
+            return c == '\'' || c == '"';
+        }
+
+        private static boolean isIdentifierStart(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '$';
+        }
+
+        private static boolean isIdentifierPart(char c) {
+            return isIdentifierStart(c) || (c >= '0' && c <= '9');
+        }
+    }
+}
@@ -32,31 +32,25 @@ import io.spine.tools.code.Element;
 import io.spine.tools.fs.ExternalModule;
 import io.spine.tools.fs.ExternalModules;
 import io.spine.tools.fs.FileReference;
-import org.checkerframework.checker.regex.qual.Regex;
+import org.jspecify.annotations.Nullable;
 
 import java.nio.file.Path;
-import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
-import static java.util.regex.Pattern.compile;
 
 /**
- * A source code line with an import statement.
+ * A source code line with an {@code import} or {@code export} directive referring
+ * to a file relative to the declaring one.
  */
 @Immutable
 final class ImportStatement implements Element, WithLogging {
 
-    @Regex(2)
-    private static final Pattern PATTERN = compile("import [\"']([^:]+)[\"'] as (.+);");
-
     private final Path sourceDirectory;
-    private final String text;
-    private final String importPathAsDeclared;
-    private final String importAlias;
+    private final Directive directive;
 
     /**
      * Creates a new instance with the passed value.
@@ -65,46 +59,59 @@ final class ImportStatement implements Element, WithLogging {
      *         the file containing the code line
      * @param text
      *         the text of the source code line with the import statement
+     * @throws IllegalArgumentException
+     *         if the text is not a recognized relative import or export directive
      */
     static ImportStatement in(DartFile sourceFile, String text) {
         checkNotEmptyOrBlank(text);
         var sourceCodeDir = requireNonNull(sourceFile.parent());
-        return new ImportStatement(sourceCodeDir, text);
+        var directive = Directive.scan(text);
+        checkArgument(
+                directive != null && directive.isResolvable(),
+                "The passed text is not recognized as an import statement (`%s`).", text
+        );
+        return new ImportStatement(sourceCodeDir, directive);
     }
 
-    private ImportStatement(Path sourceDirectory, String text) {
-        this(sourceDirectory, text, parse(text));
+    /**
+     * Obtains the import statement declared by the given line, if any.
+     *
+     * <p>Unlike calling {@link #isDeclaredIn(String)} and then {@link #in(DartFile, String)},
+     * scans the line only once.
+     *
+     * @param sourceFile
+     *         the file containing the code line
+     * @param text
+     *         the text of the source code line
+     * @return the import statement, or {@code null} if the text is not a recognized
+     *         relative import or export directive
+     */
+    static @Nullable ImportStatement declaredIn(DartFile sourceFile, String text) {
+        checkNotNull(sourceFile);
+        checkNotNull(text);
+        var directive = Directive.scan(text);
+        if (directive == null || !directive.isResolvable()) {
+            return null;
+        }
+        var sourceCodeDir = requireNonNull(sourceFile.parent());
+        return new ImportStatement(sourceCodeDir, directive);
     }
 
-    private ImportStatement(Path sourceDirectory, String text, String[] parts) {
+    private ImportStatement(Path sourceDirectory, Directive directive) {
         this.sourceDirectory = sourceDirectory;
-        this.text = text;
-        this.importPathAsDeclared = parts[0];
-        this.importAlias = parts[1];
+        this.directive = directive;
     }
 
     /**
-     * Parses the given import statement text into the import path and the alias.
+     * Tells if the passed text is an import statement which may be resolved.
      *
-     * @throws IllegalArgumentException
-     *         if the text is not a recognized relative import statement
-     */
-    private static String[] parse(String text) {
-        var matcher = PATTERN.matcher(text);
-        checkArgument(
-                matcher.matches(),
-                "The passed text is not recognized as an import statement (`%s`).", text
-        );
-        return new String[]{matcher.group(1), matcher.group(2)};
-    }
-
-    /**
-     * Tells if the passed text is an import statement.
+     * <p>Recognizes {@code import} and {@code export} directives of relative URIs,
+     * with or without a prefix and {@code show}/{@code hide} combinators.
      */
     static boolean isDeclaredIn(String text) {
         checkNotNull(text);
-        var matcher = PATTERN.matcher(text);
-        return matcher.matches();
+        var directive = Directive.scan(text);
+        return directive != null && directive.isResolvable();
     }
 
     /**
@@ -128,12 +135,9 @@ final class ImportStatement implements Element, WithLogging {
     public ImportStatement resolve(Path libPath, ExternalModules modules) {
         var relativePath = importRelativeTo(libPath);
         var reference = FileReference.of(relativePath);
-        for (var module : modules.asList()) {
-            if (module.provides(reference)) {
-                return resolve(module, reference);
-            }
-        }
-        return this;
+        return modules.providing(reference)
+                      .map(module -> resolve(module, reference))
+                      .orElse(this);
     }
 
     /**
@@ -142,8 +146,8 @@ final class ImportStatement implements Element, WithLogging {
      */
     private Path importRelativeTo(Path libPath) {
         var debug = logger().atDebug();
-        debug.log(() -> format("Import statement found in line: `%s`.", text));
-        var absolutePath = sourceDirectory.resolve(importPathAsDeclared).normalize();
+        debug.log(() -> format("Import statement found in line: `%s`.", text()));
+        var absolutePath = sourceDirectory.resolve(directive.uri()).normalize();
         debug.log(() -> format("Resolved against this file: `%s`.", absolutePath));
         var relativePath = libPath.relativize(absolutePath);
         debug.log(() -> format("Relative path: `%s`.", relativePath));
@@ -154,22 +158,21 @@ final class ImportStatement implements Element, WithLogging {
         // `reference` uses the platform-independent import separator, so the
         // resulting `package:` path has forward slashes on every OS.
         var packagePath = format("package:%s/%s", module.name(), reference.value());
-        var resolved = format("import '%s' as %s;", packagePath, importAlias);
+        var resolved = directive.withUri(packagePath);
         logger().atDebug().log(() -> format("Replacing with `%s`.", resolved));
-        // Construct directly from the already-resolved parts. The `package:` form contains
-        // a colon, so it would not match `PATTERN`, which only recognizes relative imports.
-        return new ImportStatement(sourceDirectory, resolved,
-                                   new String[]{packagePath, importAlias});
+        // The `package:` URI is not relative, so the resolved directive is not
+        // resolvable any further. Scan it directly instead of going through `in()`.
+        return new ImportStatement(sourceDirectory, requireNonNull(Directive.scan(resolved)));
     }
 
     @Override
     public String text() {
-        return text;
+        return directive.text();
     }
 
     @Override
     public String toString() {
-        return text;
+        return text();
     }
 
     @Override
@@ -181,11 +184,11 @@ final class ImportStatement implements Element, WithLogging {
             return false;
         }
         var other = (ImportStatement) o;
-        return text.equals(other.text) && sourceDirectory.equals(other.sourceDirectory);
+        return text().equals(other.text()) && sourceDirectory.equals(other.sourceDirectory);
     }
 
     @Override
     public int hashCode() {
-        return text.hashCode();
+        return text().hashCode();
     }
 }
@@ -31,9 +31,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.primitives.Booleans;
 import com.google.errorprone.annotations.Immutable;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -126,9 +124,8 @@ public final class DirectoryPattern implements Comparable<DirectoryPattern> {
      * Checks if the pattern matches the specified directory.
      */
     boolean matches(DirectoryReference target) {
-        var firstElementMatch = firstMatchIndex(target);
-        return firstElementMatch.filter(index -> matches(target, index))
-                                .isPresent();
+        var index = firstMatchIndex(target);
+        return index >= 0 && matches(target, index);
     }
 
     /**
@@ -143,40 +140,63 @@ public final class DirectoryPattern implements Comparable<DirectoryPattern> {
      * @return the updated reference
      */
     DirectoryReference transform(DirectoryReference origin) {
-        checkState(matches(origin));
-        var firstMatchIndex = firstMatchIndex(origin);
-        checkState(firstMatchIndex.isPresent());
-        var index = firstMatchIndex.get();
+        var index = firstMatchIndex(origin);
+        checkState(index >= 0 && matches(origin, index));
+        if (index == 0) {
+            return origin;
+        }
         var missingElements = directory.elements().subList(0, index);
-        var resultElements = ImmutableList.<String>builder()
-                .addAll(missingElements)
-                .addAll(origin.elements())
-                .build();
-        var result = joiner().join(resultElements);
+        var result = joiner().join(missingElements) + separator() + origin.value();
         return DirectoryReference.of(result);
     }
 
+    /**
+     * Checks if the elements of the pattern starting from the given index match
+     * the elements of the target.
+     *
+     * <p>If the pattern does not include nested directories, the numbers of
+     * the compared elements must be equal. Otherwise, the pattern elements must
+     * be a prefix of the target elements.
+     */
     private boolean matches(DirectoryReference target, int fromIndex) {
-        List<String> patternElements = directory.elements();
-        var relevantPattern = patternElements.subList(fromIndex, patternElements.size());
+        var patternElements = directory.elements();
         var targetElements = target.elements();
-        if (relevantPattern.size() > targetElements.size()) {
+        var relevantCount = patternElements.size() - fromIndex;
+        if (relevantCount > targetElements.size()) {
             return false;
         }
-        var lastRelevantTarget = includeNested
-                                 ? relevantPattern.size()
-                                 : targetElements.size();
-        var relevantTarget = targetElements.subList(0, lastRelevantTarget);
-        return relevantPattern.equals(relevantTarget);
+        if (!includeNested && relevantCount != targetElements.size()) {
+            return false;
+        }
+        for (var i = 0; i < relevantCount; i++) {
+            if (!patternElements.get(fromIndex + i).equals(targetElements.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private Optional<Integer> firstMatchIndex(DirectoryReference target) {
-        List<String> patternElements = directory.elements();
+    /**
+     * Obtains the index of the first pattern element equal to the first element
+     * of the target, or {@code -1} if there is no such element.
+     */
+    private int firstMatchIndex(DirectoryReference target) {
         var firstTargetElement = target.elements().get(0);
-        var index = patternElements.indexOf(firstTargetElement);
-        return index == -1
-               ? Optional.empty()
-               : Optional.of(index);
+        return directory.elements().indexOf(firstTargetElement);
+    }
+
+    /**
+     * Obtains the elements of the directory used in the pattern.
+     */
+    ImmutableList<String> elements() {
+        return directory.elements();
+    }
+
+    /**
+     * Tells if the pattern matches the directories nested into the referenced one.
+     */
+    boolean includesNested() {
+        return includeNested;
     }
 
     /**
@@ -28,8 +28,13 @@ package io.spine.tools.fs;
 
 import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.Immutable;
+import com.google.errorprone.annotations.concurrent.LazyInit;
 import io.spine.value.StringTypeValue;
+import org.jspecify.annotations.Nullable;
 
+import java.util.Comparator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
 
 /**
@@ -37,6 +42,9 @@ import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
  *
  * <p>May include parent directories separated by {@linkplain FileReference#separator() slashes},
  * e.g. {@code root/sub}.
+ *
+ * <p>The names of the directories are split once, when they are first requested,
+ * so that the operations on the {@linkplain #elements() elements} do not allocate.
  */
 @SuppressWarnings("ComparableImplementedButEqualsNotOverridden") // provided by the parent class.
 @Immutable
@@ -47,6 +55,18 @@ public final class DirectoryReference
     private static final long serialVersionUID = 0L;
     private static final DirectoryReference CURRENT = new DirectoryReference("");
 
+    /**
+     * Compares references by their elements.
+     */
+    private static final Comparator<DirectoryReference> ELEMENT_ORDER =
+            DirectoryReference::compareElements;
+
+    /**
+     * The names of the directories composing this reference, split lazily.
+     */
+    @LazyInit
+    private transient @Nullable ImmutableList<String> elements;
+
     private DirectoryReference(String value) {
         super(value);
     }
@@ -77,8 +97,64 @@ public final class DirectoryReference
      * Obtains all directory names composing this reference.
      */
     public ImmutableList<String> elements() {
-        var elements = FileReference.splitter().split(value());
-        return ImmutableList.copyOf(elements);
+        var result = elements;
+        if (result == null) {
+            result = ImmutableList.copyOf(FileReference.splitter().split(value()));
+            elements = result;
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the number of directory names composing this reference.
+     */
+    public int elementCount() {
+        return elements().size();
+    }
+
+    /**
+     * Tells if this reference starts with the elements of the given one.
+     *
+     * <p>Unlike {@link String#startsWith(String)}, compares whole directory names.
+     * For example, {@code foo/bar} starts with {@code foo}, but not with {@code fo}.
+     */
+    public boolean startsWith(DirectoryReference prefix) {
+        checkNotNull(prefix);
+        var own = elements();
+        var other = prefix.elements();
+        if (other.size() > own.size()) {
+            return false;
+        }
+        for (var i = 0; i < other.size(); i++) {
+            if (!own.get(i).equals(other.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Obtains the comparator ordering references by their elements.
+     *
+     * <p>Unlike the {@linkplain #compareTo(DirectoryReference) natural order}, which compares
+     * the string values, the comparator treats the separator as going before any other
+     * character. So, {@code foo/bar} goes before {@code foo-bar}.
+     */
+    public static Comparator<DirectoryReference> elementOrder() {
+        return ELEMENT_ORDER;
+    }
+
+    private int compareElements(DirectoryReference other) {
+        var own = elements();
+        var others = other.elements();
+        var common = Math.min(own.size(), others.size());
+        for (var i = 0; i < common; i++) {
+            var result = own.get(i).compareTo(others.get(i));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(own.size(), others.size());
     }
 
     @Override
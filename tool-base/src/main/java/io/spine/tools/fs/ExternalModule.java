@@ -100,6 +100,13 @@ public final class ExternalModule {
         return name;
     }
 
+    /**
+     * Obtains the patterns of the directories provided by the module in their natural order.
+     */
+    ImmutableList<DirectoryPattern> directories() {
+        return directories;
+    }
+
     private Optional<DirectoryPattern> matchingDirectory(FileReference file) {
         var directory = file.directory();
         for (var pattern : directories) {
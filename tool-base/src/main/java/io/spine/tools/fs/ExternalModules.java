@@ -32,6 +32,7 @@ import com.google.errorprone.annotations.Immutable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.toImmutableList;
@@ -43,6 +44,7 @@ import static com.google.common.collect.ImmutableList.toImmutableList;
 public final class ExternalModules {
 
     private final ImmutableList<ExternalModule> modules;
+    private final ModuleMatcher matcher;
 
     /**
      * Creates a new instance with the passed modules.
@@ -50,6 +52,7 @@ public final class ExternalModules {
     public ExternalModules(Iterable<ExternalModule> modules) {
         checkNotNull(modules);
         this.modules = ImmutableList.copyOf(modules);
+        this.matcher = ModuleMatcher.of(this.modules);
     }
 
     /**
@@ -99,6 +102,23 @@ public final class ExternalModules {
         return modules;
     }
 
+    /**
+     * Finds the first module which {@linkplain ExternalModule#provides(FileReference) provides}
+     * the given file.
+     *
+     * <p>The search takes time proportional to the number of elements in
+     * the directory of the file, not to the number of modules and their directories.
+     *
+     * @param file
+     *         the file to find
+     * @return the module providing the file, or empty {@code Optional} if no module
+     *         provides the file
+     */
+    public Optional<ExternalModule> providing(FileReference file) {
+        checkNotNull(file);
+        return matcher.find(file);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -29,7 +29,9 @@ package io.spine.tools.fs;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.concurrent.LazyInit;
 import io.spine.value.StringTypeValue;
+import org.jspecify.annotations.Nullable;
 
 import java.nio.file.Path;
 import java.util.List;
@@ -39,6 +41,9 @@ import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
 
 /**
  * A path to a file used in an import statement.
+ *
+ * <p>The {@linkplain #elements() elements} and the {@linkplain #directory() directory} of
+ * the reference are computed once, when they are first requested.
  */
 @SuppressWarnings("ComparableImplementedButEqualsNotOverridden") // provided by parent class.
 public final class FileReference extends StringTypeValue implements Comparable<FileReference> {
@@ -48,6 +53,13 @@ public final class FileReference extends StringTypeValue implements Comparable<F
     private static final String IMPORT_PATH_SEPARATOR = "/";
     private static final String PARENT_DIR = ".." + IMPORT_PATH_SEPARATOR;
     private static final String CURRENT_DIR = '.' + IMPORT_PATH_SEPARATOR;
+    private static final Splitter SPLITTER = Splitter.on(IMPORT_PATH_SEPARATOR);
+
+    @LazyInit
+    private transient @Nullable ImmutableList<String> elements;
+
+    @LazyInit
+    private transient @Nullable DirectoryReference directory;
 
     private FileReference(String value) {
         super(value);
@@ -85,7 +97,7 @@ public final class FileReference extends StringTypeValue implements Comparable<F
      * Obtains the splitter by {@linkplain FileReference#separator() separator}.
      */
     public static Splitter splitter() {
-        return Splitter.on(separator());
+        return SPLITTER;
     }
 
     /**
@@ -110,13 +122,22 @@ public final class FileReference extends StringTypeValue implements Comparable<F
      * @return the directory path omitting relative path
      */
     public DirectoryReference directory() {
+        var result = directory;
+        if (result == null) {
+            result = computeDirectory();
+            directory = result;
+        }
+        return result;
+    }
+
+    private DirectoryReference computeDirectory() {
         var nonRelativePath = withoutRelative();
         var fileNameSeparator = nonRelativePath.lastIndexOf(IMPORT_PATH_SEPARATOR);
         if (fileNameSeparator < 0) {
             return DirectoryReference.currentDir();
         } else {
-            var directory = nonRelativePath.substring(0, fileNameSeparator);
-            return DirectoryReference.of(directory);
+            var path = nonRelativePath.substring(0, fileNameSeparator);
+            return DirectoryReference.of(path);
         }
     }
 
@@ -134,8 +155,12 @@ public final class FileReference extends StringTypeValue implements Comparable<F
      * Obtains the elements of this file reference.
      */
     public List<String> elements() {
-        var elements = splitter().split(value());
-        return ImmutableList.copyOf(elements);
+        var result = elements;
+        if (result == null) {
+            result = ImmutableList.copyOf(splitter().split(value()));
+            elements = result;
+        }
+        return result;
     }
 
     private String withoutRelative() {
@@ -27,36 +27,284 @@
 package io.spine.tools.fs;
 
 import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.spine.code.fs.AbstractSourceFile;
+import org.jspecify.annotations.Nullable;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
 /**
  * A source code file containing import statements that may need to
  * be {@linkplain #resolveImports(Path, ExternalModules) resolved}.
  */
 public abstract class FileWithImports extends AbstractSourceFile {
 
+    /**
+     * The suffix of the file to which the file with resolved imports is written
+     * before it replaces the original file.
+     */
+    private static final String TEMP_SUFFIX = ".imports.tmp";
+
     protected FileWithImports(Path path) {
         super(path);
     }
 
     /**
      * Resolves the relative imports in the file into absolute ones with the given modules.
+     *
+     * <p>The file is written only if at least one import statement was changed.
+     *
+     * @see #resolveImportsAndCount(Path, ExternalModules)
      */
     public void resolveImports(Path generatedRoot, ExternalModules modules) {
+        resolveImportsAndCount(generatedRoot, modules);
+    }
+
+    /**
+     * Resolves the relative imports in the file into absolute ones with the given modules,
+     * and counts the changed import statements.
+     *
+     * <p>The file is written only if at least one import statement was changed.
+     *
+     * @return the number of import statements changed by the resolution
+     */
+    @CanIgnoreReturnValue
+    public int resolveImportsAndCount(Path generatedRoot, ExternalModules modules) {
         load();
-        ImmutableList.Builder<String> newLines = ImmutableList.builder();
-        for (var line : lines()) {
-            if (isImport(line)) {
-                var resolved = resolveImport(line, generatedRoot, modules);
+        var lines = lines();
+        var newLines = ImmutableList.<String>builderWithExpectedSize(lines.size());
+        var resolvedImports = 0;
+        for (var line : lines) {
+            var resolved = resolveIfImport(line, generatedRoot, modules);
+            if (resolved != null && !resolved.equals(line)) {
+                resolvedImports++;
                 newLines.add(resolved);
             } else {
                 newLines.add(line);
             }
         }
-        update(newLines.build());
-        store();
+        if (resolvedImports > 0) {
+            update(newLines.build());
+            store();
+        }
+        return resolvedImports;
+    }
+
+    /**
+     * Resolves the imports in the header of the file without loading the whole file.
+     *
+     * <p>The header is the leading part of the file consisting of
+     * {@linkplain #isHeaderLine(String) import statements, comments, and blank lines}.
+     * The file is read line by line until the first line which does not belong to
+     * the header. Imports placed after this line are not resolved.
+     *
+     * <p>If at least one import statement is changed, the new header is written to
+     * a temporary file, followed by the rest of the original file transferred from
+     * channel to channel. Then, the temporary file replaces the original one.
+     * Otherwise, the file is not written.
+     *
+     * <p>Unlike {@link #resolveImports(Path, ExternalModules) resolveImports()}, this method
+     * keeps the memory footprint independent of the file size, and does not pass
+     * the contents of the file through the {@linkplain #lines() lines} of this object.
+     *
+     * @return the number of import statements changed by the resolution
+     * @throws UncheckedIOException
+     *         if the file cannot be read or written
+     */
+    @CanIgnoreReturnValue
+    public int resolveHeaderImports(Path generatedRoot, ExternalModules modules) {
+        var file = path();
+        var temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        try {
+            try {
+                var resolvedImports = writeResolvedHeader(temp, generatedRoot, modules);
+                if (resolvedImports > 0) {
+                    Files.move(temp, file, REPLACE_EXISTING);
+                }
+                return resolvedImports;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the file with the resolved header imports to the given target file.
+     *
+     * <p>The original file is closed when this method returns, so that it can be replaced
+     * on the platforms which do not allow moving a file over an opened one.
+     *
+     * @return the number of import statements changed by the resolution;
+     *         if zero, the target file is not written
+     */
+    private int writeResolvedHeader(Path target, Path generatedRoot, ExternalModules modules)
+            throws IOException {
+        try (var source = FileChannel.open(path(), READ)) {
+            var header = readHeader(Channels.newInputStream(source), generatedRoot, modules);
+            if (header.resolvedImports > 0) {
+                writeResolved(target, header, source);
+            }
+            return header.resolvedImports;
+        }
+    }
+
+    /**
+     * Reads the header lines from the given stream resolving imports.
+     *
+     * <p>The stream is read byte by byte, so that the position at which the header
+     * ends is known exactly.
+     */
+    private Header readHeader(InputStream stream,
+                              Path generatedRoot,
+                              ExternalModules modules) throws IOException {
+        var in = new BufferedInputStream(stream);
+        var header = new Header();
+        var lineBytes = new ByteArrayOutputStream();
+        long position = 0;
+        var inBlockComment = false;
+        while (true) {
+            lineBytes.reset();
+            var next = in.read();
+            while (next != -1 && next != '\n') {
+                lineBytes.write(next);
+                next = in.read();
+            }
+            var endOfFile = next == -1;
+            if (endOfFile && lineBytes.size() == 0) {
+                break;
+            }
+            var terminator = endOfFile ? "" : "\n";
+            var raw = lineBytes.toString(UTF_8);
+            if (raw.endsWith("\r")) {
+                raw = raw.substring(0, raw.length() - 1);
+                terminator = "\r" + terminator;
+            }
+            var commentedOut = inBlockComment;
+            var resolved = commentedOut ? null : resolveIfImport(raw, generatedRoot, modules);
+            if (!commentedOut && resolved == null && !isHeaderLine(raw)) {
+                break;
+            }
+            inBlockComment = endsInBlockComment(raw, commentedOut);
+            var line = raw;
+            if (resolved != null && !resolved.equals(raw)) {
+                line = resolved;
+                header.resolvedImports++;
+            }
+            header.text.append(line).append(terminator);
+            position += lineBytes.size() + (endOfFile ? 0 : 1);
+            if (endOfFile) {
+                break;
+            }
+        }
+        header.end = position;
+        return header;
+    }
+
+    private static void writeResolved(Path target, Header header, FileChannel source)
+            throws IOException {
+        try (var out = FileChannel.open(target, WRITE, CREATE, TRUNCATE_EXISTING)) {
+            var headerBytes = ByteBuffer.wrap(header.text.toString().getBytes(UTF_8));
+            while (headerBytes.hasRemaining()) {
+                out.write(headerBytes);
+            }
+            var position = header.end;
+            var size = source.size();
+            while (position < size) {
+                position += source.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    /**
+     * Tests if the passed line may belong to the header of the file, which contains
+     * import statements.
+     *
+     * <p>By default, the header consists of import statements, blank lines,
+     * and comments.
+     *
+     * <p>The method is not called for the lines {@linkplain #isImport(String) recognized
+     * as import statements}, and for the lines inside a block comment started by
+     * a previous line. Such lines always belong to the header.
+     */
+    protected boolean isHeaderLine(String line) {
+        if (line.isBlank()) {
+            return true;
+        }
+        var trimmed = line.strip();
+        return trimmed.startsWith("//")
+                || trimmed.startsWith("/*");
+    }
+
+    /**
+     * Tells if a block comment remains open at the end of the given line.
+     *
+     * <p>Comment markers inside string literals and line comments are ignored.
+     *
+     * @param line
+     *         the line to scan
+     * @param inBlockComment
+     *         whether a block comment is open at the start of the line
+     */
+    private static boolean endsInBlockComment(String line, boolean inBlockComment) {
+        var inComment = inBlockComment;
+        char quote = 0;
+        var length = line.length();
+        for (var i = 0; i < length; i++) {
+            var c = line.charAt(i);
+            var next = i + 1 < length ? line.charAt(i + 1) : 0;
+            if (inComment) {
+                if (c == '*' && next == '/') {
+                    inComment = false;
+                    i++;
+                }
+            } else if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '/' && next == '/') {
+                return false;
+            } else if (c == '/' && next == '*') {
+                inComment = true;
+                i++;
+            }
+        }
+        return inComment;
+    }
+
+    /**
+     * The header of a file with resolved imports.
+     */
+    private static final class Header {
+
+        private final StringBuilder text = new StringBuilder();
+        private int resolvedImports;
+
+        /**
+         * The position of the first byte after the header in the original file.
+         */
+        private long end;
     }
 
     /**
@@ -70,4 +318,22 @@ public abstract class FileWithImports extends AbstractSourceFile {
      */
     protected abstract
     String resolveImport(String line, Path generatedRoot, ExternalModules modules);
+
+    /**
+     * Resolves the import statement of the passed line, if the line contains one.
+     *
+     * <p>By default, {@linkplain #isImport(String) recognizes} the import statement and then
+     * {@linkplain #resolveImport(String, Path, ExternalModules) resolves} it. Files which
+     * parse the line to recognize the statement may override this method to resolve
+     * the parsed statement without parsing the line again.
+     *
+     * @return the line with the resolved import statement, or {@code null} if
+     *         the line does not contain an import statement
+     */
+    protected @Nullable String
+    resolveIfImport(String line, Path generatedRoot, ExternalModules modules) {
+        return isImport(line)
+               ? resolveImport(line, generatedRoot, modules)
+               : null;
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.fs;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Immutable;
+
+import java.util.Objects;
+
+/**
+ * Counts of the files and import statements processed by a {@link TreeImportResolver}.
+ */
+@Immutable
+public final class ImportResolution {
+
+    private static final ImportResolution EMPTY = new ImportResolution(0, 0, 0);
+
+    private final int filesScanned;
+    private final int filesRewritten;
+    private final int importsResolved;
+
+    private ImportResolution(int filesScanned, int filesRewritten, int importsResolved) {
+        this.filesScanned = filesScanned;
+        this.filesRewritten = filesRewritten;
+        this.importsResolved = importsResolved;
+    }
+
+    /**
+     * Obtains the result with no files processed.
+     */
+    static ImportResolution empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Obtains the result of processing a single file.
+     *
+     * @param importsResolved
+     *         the number of import statements changed in the file
+     */
+    static ImportResolution ofFile(int importsResolved) {
+        var rewritten = importsResolved > 0 ? 1 : 0;
+        return new ImportResolution(1, rewritten, importsResolved);
+    }
+
+    /**
+     * Sums up this result with the given one.
+     */
+    ImportResolution plus(ImportResolution other) {
+        return new ImportResolution(filesScanned + other.filesScanned,
+                                    filesRewritten + other.filesRewritten,
+                                    importsResolved + other.importsResolved);
+    }
+
+    /**
+     * Obtains the number of processed files.
+     */
+    public int filesScanned() {
+        return filesScanned;
+    }
+
+    /**
+     * Obtains the number of files written because their imports were changed.
+     */
+    public int filesRewritten() {
+        return filesRewritten;
+    }
+
+    /**
+     * Obtains the number of changed import statements.
+     */
+    public int importsResolved() {
+        return importsResolved;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImportResolution)) {
+            return false;
+        }
+        var other = (ImportResolution) o;
+        return filesScanned == other.filesScanned
+                && filesRewritten == other.filesRewritten
+                && importsResolved == other.importsResolved;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filesScanned, filesRewritten, importsResolved);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("filesScanned", filesScanned)
+                          .add("filesRewritten", filesRewritten)
+                          .add("importsResolved", importsResolved)
+                          .toString();
+    }
+}
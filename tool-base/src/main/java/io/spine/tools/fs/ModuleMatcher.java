@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.fs;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Immutable;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Finds a module providing a file in a list of {@link ExternalModule}s.
+ *
+ * <p>A {@link DirectoryPattern} matches a directory if the tail of the pattern, starting
+ * at the first occurrence of the first element of the directory, equals the directory.
+ * A pattern including nested directories matches if the tail is a prefix of the directory.
+ *
+ * <p>The matcher is a trie of path elements built of such tails of all the patterns of
+ * all the modules. A node of the trie remembers the patterns whose tails end at
+ * this node. This way, a module providing a file is found in one pass over the elements
+ * of the file directory instead of checking each pattern of each module.
+ *
+ * <p>If several modules provide a file, the one which goes first in the list of
+ * modules is selected. Within a module, the patterns are checked in their natural order,
+ * as {@link ExternalModule#provides(FileReference)} does.
+ */
+@Immutable
+final class ModuleMatcher {
+
+    private final Node root;
+
+    private ModuleMatcher(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the matcher for the given modules.
+     */
+    static ModuleMatcher of(List<ExternalModule> modules) {
+        var root = new NodeBuilder();
+        var rank = 0;
+        for (var module : modules) {
+            for (var pattern : module.directories()) {
+                addTails(root, pattern, new Match(module, rank));
+                rank++;
+            }
+        }
+        return new ModuleMatcher(root.build());
+    }
+
+    /**
+     * Adds the tails of the pattern starting at the first occurrences of its elements.
+     */
+    private static void addTails(NodeBuilder root, DirectoryPattern pattern, Match match) {
+        var elements = pattern.elements();
+        var seen = new HashSet<String>();
+        for (var start = 0; start < elements.size(); start++) {
+            if (!seen.add(elements.get(start))) {
+                continue;
+            }
+            var node = root;
+            for (var element : elements.subList(start, elements.size())) {
+                node = node.child(element);
+            }
+            node.add(match, pattern.includesNested());
+        }
+    }
+
+    /**
+     * Finds the first module providing the given file.
+     */
+    Optional<ExternalModule> find(FileReference file) {
+        var elements = file.directory().elements();
+        @Nullable Match best = null;
+        var node = root;
+        for (var element : elements) {
+            var next = node.children.get(element);
+            if (next == null) {
+                return Optional.ofNullable(best).map(m -> m.module);
+            }
+            node = next;
+            best = Match.first(best, node.nested);
+        }
+        best = Match.first(best, node.exact);
+        return Optional.ofNullable(best).map(m -> m.module);
+    }
+
+    /**
+     * A pattern of a module along with the position of the pattern in the order of checking.
+     */
+    @Immutable
+    private static final class Match {
+
+        private final ExternalModule module;
+        private final int rank;
+
+        private Match(ExternalModule module, int rank) {
+            this.module = module;
+            this.rank = rank;
+        }
+
+        private static @Nullable Match first(@Nullable Match current, @Nullable Match other) {
+            if (other == null) {
+                return current;
+            }
+            if (current == null || other.rank < current.rank) {
+                return other;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * A node of the trie.
+     */
+    @Immutable
+    private static final class Node {
+
+        private final ImmutableMap<String, Node> children;
+
+        /**
+         * The first pattern including nested directories whose tail ends at this node.
+         */
+        private final @Nullable Match nested;
+
+        /**
+         * The first pattern whose tail ends at this node, regardless of nesting.
+         */
+        private final @Nullable Match exact;
+
+        private Node(ImmutableMap<String, Node> children,
+                     @Nullable Match nested,
+                     @Nullable Match exact) {
+            this.children = children;
+            this.nested = nested;
+            this.exact = exact;
+        }
+    }
+
+    /**
+     * A mutable counterpart of {@link Node} used when compiling the matcher.
+     */
+    private static final class NodeBuilder {
+
+        private final Map<String, NodeBuilder> children = new HashMap<>();
+        private final List<Match> nested = new ArrayList<>(1);
+        private final List<Match> exact = new ArrayList<>(1);
+
+        private NodeBuilder child(String element) {
+            return children.computeIfAbsent(element, e -> new NodeBuilder());
+        }
+
+        private void add(Match match, boolean includesNested) {
+            exact.add(match);
+            if (includesNested) {
+                nested.add(match);
+            }
+        }
+
+        private Node build() {
+            var builtChildren = ImmutableMap.<String, Node>builderWithExpectedSize(children.size());
+            children.forEach((element, child) -> builtChildren.put(element, child.build()));
+            return new Node(builtChildren.build(), firstOf(nested), firstOf(exact));
+        }
+
+        private static @Nullable Match firstOf(List<Match> matches) {
+            @Nullable Match result = null;
+            for (var match : matches) {
+                result = Match.first(result, match);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.fs;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
+
+/**
+ * Resolves imports in all the source files with the given extension under a directory.
+ *
+ * <p>The files are processed in parallel by a pool of worker threads.
+ * A file is written only if at least one of its imports was changed.
+ *
+ * <p>The files obtained from the reader are loaded when their imports are resolved.
+ * A reader does not need to load the files itself.
+ *
+ * @see FileWithImports#resolveImportsAndCount(Path, ExternalModules)
+ */
+public final class TreeImportResolver {
+
+    private final String extension;
+    private final Function<Path, ? extends FileWithImports> reader;
+    private final ExternalModules modules;
+    private final int parallelism;
+    private final boolean headersOnly;
+
+    /**
+     * Creates a new resolver using a thread per available processor.
+     *
+     * @param extension
+     *         the extension of the files to process, e.g., {@code ".dart"}
+     * @param reader
+     *         reads a file with imports from the given path
+     * @param modules
+     *         the modules to resolve imports with
+     */
+    public TreeImportResolver(String extension,
+                              Function<Path, ? extends FileWithImports> reader,
+                              ExternalModules modules) {
+        this(extension, reader, modules, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new resolver with the given number of worker threads.
+     *
+     * @param extension
+     *         the extension of the files to process, e.g., {@code ".dart"}
+     * @param reader
+     *         reads a file with imports from the given path
+     * @param modules
+     *         the modules to resolve imports with
+     * @param parallelism
+     *         the number of worker threads, must be positive
+     */
+    public TreeImportResolver(String extension,
+                              Function<Path, ? extends FileWithImports> reader,
+                              ExternalModules modules,
+                              int parallelism) {
+        this.extension = checkNotEmptyOrBlank(extension);
+        this.reader = checkNotNull(reader);
+        this.modules = checkNotNull(modules);
+        checkArgument(parallelism > 0,
+                      "The number of worker threads must be positive (`%s`).", parallelism);
+        this.parallelism = parallelism;
+        this.headersOnly = false;
+    }
+
+    private TreeImportResolver(TreeImportResolver source, boolean headersOnly) {
+        this.extension = source.extension;
+        this.reader = source.reader;
+        this.modules = source.modules;
+        this.parallelism = source.parallelism;
+        this.headersOnly = headersOnly;
+    }
+
+    /**
+     * Obtains a resolver which processes only the headers of the files.
+     *
+     * <p>The files are processed in the streaming mode without loading them
+     * into memory as a whole.
+     *
+     * @see FileWithImports#resolveHeaderImports(Path, ExternalModules)
+     */
+    public TreeImportResolver headersOnly() {
+        return new TreeImportResolver(this, true);
+    }
+
+    /**
+     * Resolves imports in the files under the given directory.
+     *
+     * @param root
+     *         the directory to walk; if it does not exist, no files are processed
+     * @param generatedRoot
+     *         the root directory against which the imports are resolved
+     * @return the counts of the processed files and the resolved imports
+     * @throws IllegalStateException
+     *         if processing of a file fails
+     */
+    public ImportResolution resolve(Path root, Path generatedRoot) {
+        checkNotNull(root);
+        checkNotNull(generatedRoot);
+        var files = filesUnder(root);
+        if (files.isEmpty()) {
+            return ImportResolution.empty();
+        }
+        var tasks = files.stream()
+                .map(file -> (Callable<ImportResolution>) () -> resolveIn(file, generatedRoot))
+                .collect(toImmutableList());
+        var threads = Math.min(parallelism, files.size());
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var result = ImportResolution.empty();
+            for (var future : executor.invokeAll(tasks)) {
+                result = result.plus(future.get());
+            }
+            return result;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(
+                    "Unable to resolve imports under `" + root + "`.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                    "Interrupted while resolving imports under `" + root + "`.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ImportResolution resolveIn(Path path, Path generatedRoot) {
+        var file = reader.apply(path);
+        var resolvedImports = headersOnly
+                              ? file.resolveHeaderImports(generatedRoot, modules)
+                              : file.resolveImportsAndCount(generatedRoot, modules);
+        return ImportResolution.ofFile(resolvedImports);
+    }
+
+    private ImmutableList<Path> filesUnder(Path root) {
+        if (!Files.isDirectory(root)) {
+            return ImmutableList.of();
+        }
+        try (var paths = Files.walk(root)) {
+            return paths.filter(Files::isRegularFile)
+                        .filter(p -> p.getFileName().toString().endsWith(extension))
+                        .collect(toImmutableList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
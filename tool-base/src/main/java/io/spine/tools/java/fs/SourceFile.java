@@ -42,7 +42,6 @@ import io.spine.type.Type;
 import org.jspecify.annotations.Nullable;
 
 import java.nio.file.Path;
-import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.tools.java.fs.JavaFiles.resolve;
@@ -128,7 +127,7 @@ public final class SourceFile extends AbstractSourceFile {
      *         the proto file descriptor
      * @return the relative folder path
      */
-    private static Path directoryOf(FileDescriptorProto file) {
+    static Path directoryOf(FileDescriptorProto file) {
         checkNotNull(file);
         var packageName = PackageName.resolve(file);
         var result = toDirectory(packageName);
@@ -145,7 +144,9 @@ public final class SourceFile extends AbstractSourceFile {
      */
     public static SourceFile forMessage(Descriptor message) {
         checkNotNull(message);
-        return forMessage(message.toProto(), message.getFile().toProto());
+        var file = message.getFile().toProto();
+        var result = SourceFileIndex.of(file).message(message.getFullName());
+        return orMissing(result, file, message.getName());
     }
 
     /**
@@ -162,7 +163,9 @@ public final class SourceFile extends AbstractSourceFile {
     public static SourceFile forMessage(DescriptorProto message, FileDescriptorProto file) {
         checkNotNull(message);
         checkNotNull(file);
-        return forMessageOrInterface(message, file, FileName::forMessage);
+        var index = SourceFileIndex.of(file);
+        var result = index.message(index.topLevelName(message.getName()));
+        return orMissing(result, file, message.getName());
     }
 
     /**
@@ -175,7 +178,9 @@ public final class SourceFile extends AbstractSourceFile {
      */
     public static SourceFile forMessageOrBuilder(Descriptor message) {
         checkNotNull(message);
-        return forMessageOrBuilder(message.toProto(), message.getFile().toProto());
+        var file = message.getFile().toProto();
+        var result = SourceFileIndex.of(file).messageOrBuilder(message.getFullName());
+        return orMissing(result, file, message.getName());
     }
 
     /**
@@ -193,25 +198,24 @@ public final class SourceFile extends AbstractSourceFile {
                                                  FileDescriptorProto file) {
         checkNotNull(message);
         checkNotNull(file);
-        return forMessageOrInterface(message, file, FileName::forMessageOrBuilder);
+        var index = SourceFileIndex.of(file);
+        var result = index.messageOrBuilder(index.topLevelName(message.getName()));
+        return orMissing(result, file, message.getName());
     }
 
-    private static SourceFile forMessageOrInterface(DescriptorProto message,
-                                                    FileDescriptorProto file,
-                                                    Function<DescriptorProto, FileName> fileName) {
-        var typeName = message.getName();
-        if (!file.getMessageTypeList().contains(message)) {
+    /**
+     * Returns the given source file, if it is found in the index of the proto file.
+     *
+     * @throws IllegalStateException
+     *         if the file was not found meaning that the proto file does not declare the type
+     */
+    private static SourceFile orMissing(@Nullable SourceFile found,
+                                        FileDescriptorProto file,
+                                        String typeName) {
+        if (found == null) {
             throw missingDefinition(file.getName(), typeName);
         }
-        if (file.getOptions().getJavaMultipleFiles()) {
-            var filename = fileName.apply(message);
-            var dir = directoryOf(file);
-            var result = resolve(dir, filename);
-            return result;
-        } else {
-            var result = forOuterClassOf(file);
-            return result;
-        }
+        return found;
     }
 
     private static IllegalStateException missingDefinition(String file, String definition) {
@@ -229,7 +233,9 @@ public final class SourceFile extends AbstractSourceFile {
      */
     public static SourceFile forEnum(EnumDescriptor enumType) {
         checkNotNull(enumType);
-        return forEnum(enumType.toProto(), enumType.getFile().toProto());
+        var file = enumType.getFile().toProto();
+        var result = SourceFileIndex.of(file).enumType(enumType.getFullName());
+        return orMissing(result, file, enumType.getName());
     }
 
     /**
@@ -244,46 +250,8 @@ public final class SourceFile extends AbstractSourceFile {
     public static SourceFile forEnum(EnumDescriptorProto enumType, FileDescriptorProto file) {
         checkNotNull(file);
         checkNotNull(enumType);
-        var isTopLevelEnum = file.getEnumTypeList().contains(enumType);
-        @Nullable DescriptorProto containsNested = null;
-        if (!isTopLevelEnum) {
-            containsNested = containsNested(file, enumType);
-        }
-        if (!isTopLevelEnum && containsNested == null) {
-            throw missingDefinition(file.getName(), enumType.getName());
-        }
-        var multipleFiles = file.getOptions().getJavaMultipleFiles();
-        if (multipleFiles) {
-            FileName fileName;
-            var dir = directoryOf(file);
-            if (containsNested == null) {
-                fileName = FileName.forEnum(enumType);
-            } else {
-                fileName = FileName.forMessage(containsNested);
-            }
-            var result = resolve(dir, fileName);
-            return result;
-        } else {
-            var result = forOuterClassOf(file);
-            return result;
-        }
-    }
-
-    private static @Nullable DescriptorProto containsNested(FileDescriptorProto file,
-                                                            EnumDescriptorProto enumType) {
-        return file.getMessageTypeList()
-                .stream()
-                .filter(message -> containsEnum(message, enumType))
-                .findFirst()
-                .orElse(null);
-    }
-
-    private static boolean containsEnum(DescriptorProto message, EnumDescriptorProto enumType) {
-        var containsType = message.getEnumTypeList().contains(enumType);
-        return containsType ||
-                message.getNestedTypeList()
-                        .stream()
-                        .anyMatch(nested -> containsEnum(nested, enumType));
+        var result = SourceFileIndex.of(file).enumType(enumType);
+        return orMissing(result, file, enumType.getName());
     }
 
     /**
@@ -295,7 +263,9 @@ public final class SourceFile extends AbstractSourceFile {
      */
     public static SourceFile forService(ServiceDescriptor service) {
         checkNotNull(service);
-        return forService(service.toProto(), service.getFile().toProto());
+        var file = service.getFile().toProto();
+        var result = SourceFileIndex.of(file).service(service.getFullName());
+        return orMissing(result, file, service.getName());
     }
 
     /**
@@ -310,14 +280,9 @@ public final class SourceFile extends AbstractSourceFile {
     public static SourceFile forService(ServiceDescriptorProto service, FileDescriptorProto file) {
         checkNotNull(service);
         checkNotNull(file);
-        var serviceType = service.getName();
-        if (!file.getServiceList().contains(service)) {
-            throw missingDefinition(file.getName(), serviceType);
-        }
-        var filename = FileName.forService(service);
-        var dir = directoryOf(file);
-        var result = resolve(dir, filename);
-        return result;
+        var index = SourceFileIndex.of(file);
+        var result = index.service(index.topLevelName(service.getName()));
+        return orMissing(result, file, service.getName());
     }
 
     /**
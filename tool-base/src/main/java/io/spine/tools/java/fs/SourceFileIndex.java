@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.java.fs;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.spine.tools.java.fs.JavaFiles.resolve;
+
+/**
+ * Java source files generated for the types declared in a proto file.
+ *
+ * <p>The index is built once per {@link FileDescriptorProto} by walking the declarations
+ * of the file, so that obtaining a {@link SourceFile} for a type does not search
+ * through the lists of the file descriptor. Types are indexed by their full Protobuf names.
+ *
+ * <p>Enums are also indexed by their descriptors, since the full name of a nested enum
+ * cannot be obtained from its {@link EnumDescriptorProto}.
+ */
+final class SourceFileIndex {
+
+    /**
+     * Indexes of the file descriptors met so far.
+     *
+     * <p>The descriptors are weakly referenced and compared by identity, so that
+     * the indexes are garbage collected along with the descriptors they were built for.
+     * An index is built without locking the indexes of other descriptors.
+     */
+    private static final LoadingCache<FileDescriptorProto, SourceFileIndex> indexes =
+            CacheBuilder.newBuilder()
+                        .weakKeys()
+                        .build(CacheLoader.from(SourceFileIndex::new));
+
+    private final String typePrefix;
+    private final ImmutableMap<String, SourceFile> messages;
+    private final ImmutableMap<String, SourceFile> messageOrBuilders;
+    private final ImmutableMap<String, SourceFile> enums;
+    private final ImmutableMap<EnumDescriptorProto, SourceFile> enumsByDescriptor;
+    private final ImmutableMap<String, SourceFile> services;
+
+    private SourceFileIndex(FileDescriptorProto file) {
+        var protoPackage = file.getPackage();
+        this.typePrefix = protoPackage.isEmpty() ? "" : protoPackage + '.';
+        var builder = new Builder(file, typePrefix);
+        this.messages = ImmutableMap.copyOf(builder.messages);
+        this.messageOrBuilders = ImmutableMap.copyOf(builder.messageOrBuilders);
+        this.enums = ImmutableMap.copyOf(builder.enums);
+        this.enumsByDescriptor = ImmutableMap.copyOf(builder.enumsByDescriptor);
+        this.services = ImmutableMap.copyOf(builder.services);
+    }
+
+    /**
+     * Obtains the index of the given file, building it on the first request.
+     */
+    static SourceFileIndex of(FileDescriptorProto file) {
+        return indexes.getUnchecked(file);
+    }
+
+    /**
+     * Obtains the full name of a top-level type declared in the indexed file.
+     */
+    String topLevelName(String simpleName) {
+        return typePrefix + simpleName;
+    }
+
+    /**
+     * Obtains the file of the top-level message type with the given full name.
+     *
+     * @return the source file or {@code null} if there is no such top-level message
+     */
+    @Nullable SourceFile message(String fullName) {
+        return messages.get(fullName);
+    }
+
+    /**
+     * Obtains the file of the {@code MessageOrBuilder} interface of the top-level
+     * message type with the given full name.
+     *
+     * @return the source file or {@code null} if there is no such top-level message
+     */
+    @Nullable SourceFile messageOrBuilder(String fullName) {
+        return messageOrBuilders.get(fullName);
+    }
+
+    /**
+     * Obtains the file of the enum type with the given full name.
+     *
+     * @return the source file or {@code null} if there is no such enum in the file
+     */
+    @Nullable SourceFile enumType(String fullName) {
+        return enums.get(fullName);
+    }
+
+    /**
+     * Obtains the file of the given enum type.
+     *
+     * <p>If equal enum descriptors are nested in different messages, returns
+     * the file of the first of them in the order of declaration.
+     *
+     * @return the source file or {@code null} if there is no such enum in the file
+     */
+    @Nullable SourceFile enumType(EnumDescriptorProto enumType) {
+        return enumsByDescriptor.get(enumType);
+    }
+
+    /**
+     * Obtains the file of the service with the given full name.
+     *
+     * @return the source file or {@code null} if there is no such service in the file
+     */
+    @Nullable SourceFile service(String fullName) {
+        return services.get(fullName);
+    }
+
+    /**
+     * Walks the declarations of a proto file collecting their source files.
+     */
+    private static final class Builder {
+
+        private final Path directory;
+        private final @Nullable SourceFile outerClass;
+        private final Map<String, SourceFile> messages = new HashMap<>();
+        private final Map<String, SourceFile> messageOrBuilders = new HashMap<>();
+        private final Map<String, SourceFile> enums = new HashMap<>();
+        private final Map<EnumDescriptorProto, SourceFile> enumsByDescriptor = new HashMap<>();
+        private final Map<String, SourceFile> services = new HashMap<>();
+
+        private Builder(FileDescriptorProto file, String typePrefix) {
+            this.directory = SourceFile.directoryOf(file);
+            this.outerClass = file.getOptions().getJavaMultipleFiles()
+                              ? null
+                              : SourceFile.forOuterClassOf(file);
+            for (var enumType : file.getEnumTypeList()) {
+                var enumFile = outerClass != null
+                               ? outerClass
+                               : resolve(directory, FileName.forEnum(enumType));
+                addEnum(typePrefix + enumType.getName(), enumType, enumFile);
+            }
+            for (var message : file.getMessageTypeList()) {
+                addMessage(typePrefix + message.getName(), message);
+            }
+            for (var service : file.getServiceList()) {
+                var serviceFile = resolve(directory, FileName.forService(service));
+                services.putIfAbsent(typePrefix + service.getName(), serviceFile);
+            }
+        }
+
+        private void addMessage(String fullName, DescriptorProto message) {
+            SourceFile messageFile;
+            SourceFile orBuilderFile;
+            if (outerClass != null) {
+                messageFile = outerClass;
+                orBuilderFile = outerClass;
+            } else {
+                messageFile = resolve(directory, FileName.forMessage(message));
+                orBuilderFile = resolve(directory, FileName.forMessageOrBuilder(message));
+            }
+            messages.putIfAbsent(fullName, messageFile);
+            messageOrBuilders.putIfAbsent(fullName, orBuilderFile);
+            addNestedEnums(fullName, message, messageFile);
+        }
+
+        /**
+         * Adds the enums nested in the given message at any depth.
+         *
+         * <p>Nested enums are declared in the file of the top-level message.
+         */
+        private void addNestedEnums(String messageName,
+                                    DescriptorProto message,
+                                    SourceFile topLevelFile) {
+            for (var enumType : message.getEnumTypeList()) {
+                addEnum(messageName + '.' + enumType.getName(), enumType, topLevelFile);
+            }
+            for (var nested : message.getNestedTypeList()) {
+                addNestedEnums(messageName + '.' + nested.getName(), nested, topLevelFile);
+            }
+        }
+
+        private void addEnum(String fullName, EnumDescriptorProto enumType, SourceFile file) {
+            enums.putIfAbsent(fullName, file);
+            enumsByDescriptor.putIfAbsent(enumType, file);
+        }
+    }
+}
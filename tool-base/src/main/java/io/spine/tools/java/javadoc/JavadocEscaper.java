@@ -27,9 +27,19 @@
 package io.spine.tools.java.javadoc;
 
 import io.spine.annotation.Internal;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.tools.java.javadoc.JavadocEscaper.EscapeSequence.fromBeginningOf;
+import static io.spine.tools.java.javadoc.JavadocEscaper.EscapeSequence.AMPERSAND;
+import static io.spine.tools.java.javadoc.JavadocEscaper.EscapeSequence.AT_MARK;
+import static io.spine.tools.java.javadoc.JavadocEscaper.EscapeSequence.BACK_SLASH;
+import static io.spine.tools.java.javadoc.JavadocEscaper.EscapeSequence.COMMENT_BEGINNING;
+import static io.spine.tools.java.javadoc.JavadocEscaper.EscapeSequence.COMMENT_ENDING;
+import static io.spine.tools.java.javadoc.JavadocEscaper.EscapeSequence.GREATER_THAN;
+import static io.spine.tools.java.javadoc.JavadocEscaper.EscapeSequence.LESS_THAN;
+import static io.spine.util.Exceptions.newIllegalStateException;
 
 /**
  * Escaper for a Javadoc text.
@@ -44,6 +54,12 @@ import static io.spine.tools.java.javadoc.JavadocEscaper.EscapeSequence.fromBegi
 @Internal
 public final class JavadocEscaper {
 
+    /**
+     * The escaped slash of the comment ending.
+     */
+    private static final String SLASH_AFTER_ASTERISK =
+            COMMENT_ENDING.escaped.substring(1);
+
     /** Prevents instantiation of this utility class. */
     private JavadocEscaper() {
     }
@@ -52,31 +68,92 @@ public final class JavadocEscaper {
      * Escapes the {@link EscapeSequence} from a Javadoc text.
      *
      * <p>If a Javadoc text starts with a slash, it will be interpreted like a comment ending.
-     * To handle this case, we should add "*" before a Javadoc text.
+     * To handle this case, the leading slash is escaped as if it followed {@code "*"}.
      *
      * @param javadocText the unescaped Javadoc text
      * @return the escaped Javadoc text
      */
     public static String escape(String javadocText) {
         checkNotNull(javadocText);
-        var escapedJavadocBuilder = new StringBuilder(javadocText.length() * 2);
+        var result = new StringBuilder(javadocText.length() + javadocText.length() / 4);
+        escapeTo(result, javadocText);
+        return result.toString();
+    }
 
-        var unescapedPartBuilder = new StringBuilder('*' + javadocText);
-        while (unescapedPartBuilder.length() != 0) {
-            var escapedString = fromBeginningOf(unescapedPartBuilder.toString());
+    /**
+     * Appends the escaped Javadoc text to the given builder.
+     */
+    static void escapeTo(StringBuilder builder, CharSequence javadocText) {
+        try {
+            escape(javadocText, builder);
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "`StringBuilder` is not expected to throw.");
+        }
+    }
 
-            if (escapedString != null) {
-                escapedJavadocBuilder.append(escapedString.getEscaped());
-                unescapedPartBuilder.delete(0, escapedString.getUnescaped()
-                                                            .length());
+    /**
+     * Escapes the {@link EscapeSequence} from a Javadoc text writing the result to
+     * the given output.
+     *
+     * <p>The text is read once. The runs of chars which do not need escaping are passed
+     * to the output as a whole.
+     *
+     * @param javadocText the unescaped Javadoc text
+     * @param out the output for the escaped Javadoc text
+     * @throws IOException if the output fails to append the text
+     * @see #escape(String)
+     */
+    public static void escape(CharSequence javadocText, Appendable out) throws IOException {
+        checkNotNull(javadocText);
+        checkNotNull(out);
+        var length = javadocText.length();
+        var i = 0;
+        var runStart = 0;
+        if (length > 0 && javadocText.charAt(0) == '/') {
+            // The virtual `*` before the text forms the comment ending with the slash.
+            out.append(SLASH_AFTER_ASTERISK);
+            i = 1;
+            runStart = 1;
+        }
+        while (i < length) {
+            var c = javadocText.charAt(i);
+            var next = i + 1 < length ? javadocText.charAt(i + 1) : '\0';
+            @Nullable EscapeSequence sequence;
+            switch (c) {
+                case '/':
+                    sequence = next == '*' ? COMMENT_BEGINNING : null;
+                    break;
+                case '*':
+                    sequence = next == '/' ? COMMENT_ENDING : null;
+                    break;
+                case '\\':
+                    sequence = BACK_SLASH;
+                    break;
+                case '@':
+                    sequence = AT_MARK;
+                    break;
+                case '&':
+                    sequence = AMPERSAND;
+                    break;
+                case '<':
+                    sequence = LESS_THAN;
+                    break;
+                case '>':
+                    sequence = GREATER_THAN;
+                    break;
+                default:
+                    sequence = null;
+            }
+            if (sequence == null) {
+                i++;
             } else {
-                escapedJavadocBuilder.append(unescapedPartBuilder.charAt(0));
-                unescapedPartBuilder.deleteCharAt(0);
+                out.append(javadocText, runStart, i)
+                   .append(sequence.escaped);
+                i += sequence.unescaped.length();
+                runStart = i;
             }
         }
-
-        // Remove added "*" in the beginning.
-        return escapedJavadocBuilder.substring(1);
+        out.append(javadocText, runStart, length);
     }
 
     /**
@@ -113,7 +190,7 @@ public final class JavadocEscaper {
          * @param javadocText the Javadoc text
          * @return the {@code EscapeSequence} element
          */
-        public static EscapeSequence fromBeginningOf(String javadocText) {
+        public static @Nullable EscapeSequence fromBeginningOf(String javadocText) {
             checkNotNull(javadocText);
 
             for (var escapedCharacter : values()) {
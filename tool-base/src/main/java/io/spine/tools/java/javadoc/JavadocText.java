@@ -46,6 +46,9 @@ public class JavadocText extends StringTypeValue {
 
     private static final String LINE_SEPARATOR = System.lineSeparator();
 
+    private static final int PRE_TAGS_LENGTH =
+            OPENING_PRE.length() + CLOSING_PRE.length() + 2 * LINE_SEPARATOR.length();
+
     private JavadocText(String escapedText) {
         super(escapedText);
     }
@@ -64,12 +67,14 @@ public class JavadocText extends StringTypeValue {
      * @return the text wrapped in the tags
      */
     public JavadocText inPreTags() {
-        var inTags = OPENING_PRE +
-                LINE_SEPARATOR +
-                JavadocEscaper.escape(value()) +
-                CLOSING_PRE +
-                LINE_SEPARATOR;
-        return new JavadocText(inTags);
+        var text = value();
+        var inTags = new StringBuilder(text.length() + PRE_TAGS_LENGTH);
+        inTags.append(OPENING_PRE)
+              .append(LINE_SEPARATOR);
+        JavadocEscaper.escapeTo(inTags, text);
+        inTags.append(CLOSING_PRE)
+              .append(LINE_SEPARATOR);
+        return new JavadocText(inTags.toString());
     }
 
     public JavadocText withNewLine() {
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.type;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.annotation.Internal;
+import io.spine.code.proto.FileSet;
+import io.spine.tools.java.fs.SourceFile;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.String.format;
+import static java.lang.System.lineSeparator;
+
+/**
+ * The files to be generated for all the types of a {@link FileSet}.
+ *
+ * <p>The plan maps the full Protobuf name of each message, enum, and service type to
+ * the file which declares the type in the generated code:
+ * <ul>
+ *     <li>the Java {@link SourceFile}, which is the file of the top-level class for
+ *         nested types;
+ *     <li>the JavaScript {@link io.spine.tools.js.fs.FileName FileName} of the proto file;
+ *     <li>the Dart {@link io.spine.tools.dart.fs.FileName FileName} of the proto file.
+ * </ul>
+ *
+ * <p>Proto files are planned in parallel, and their plans are merged in the order of
+ * the files in the set. The merge fails if two proto files would produce the same file,
+ * or declare the same type. Thus, once a plan is created, the generators may create
+ * the {@linkplain Targets#directories() directories} in bulk and write
+ * the files concurrently.
+ */
+@Internal
+public final class GeneratedFilePlan {
+
+    private final Targets<SourceFile> java;
+    private final Targets<io.spine.tools.js.fs.FileName> js;
+    private final Targets<io.spine.tools.dart.fs.FileName> dart;
+
+    private GeneratedFilePlan(Targets<SourceFile> java,
+                              Targets<io.spine.tools.js.fs.FileName> js,
+                              Targets<io.spine.tools.dart.fs.FileName> dart) {
+        this.java = java;
+        this.js = js;
+        this.dart = dart;
+    }
+
+    /**
+     * Plans the files generated for the types of the given descriptor set.
+     *
+     * @throws IllegalStateException
+     *         if the files of the set collide
+     */
+    public static GeneratedFilePlan of(MergedDescriptorSet descriptorSet) {
+        checkNotNull(descriptorSet);
+        return of(descriptorSet.fileSet());
+    }
+
+    /**
+     * Plans the files generated for the types of the given file set.
+     *
+     * @throws IllegalStateException
+     *         if the files of the set collide
+     */
+    public static GeneratedFilePlan of(FileSet fileSet) {
+        checkNotNull(fileSet);
+        var files = fileSet.files()
+                           .parallelStream()
+                           .map(FileTargets::new)
+                           .collect(toImmutableList());
+        var java = new Merger<SourceFile>(SourceFile::path);
+        var js = new Merger<io.spine.tools.js.fs.FileName>(GeneratedFilePlan::path);
+        var dart = new Merger<io.spine.tools.dart.fs.FileName>(GeneratedFilePlan::path);
+        var declaringFiles = new HashMap<String, String>();
+        var collisions = new ArrayList<String>();
+        for (var file : files) {
+            for (var type : file.javaTypes.keySet()) {
+                var previous = declaringFiles.putIfAbsent(type, file.name);
+                if (previous != null) {
+                    collisions.add(format("The type `%s` is declared in `%s` and `%s`.",
+                                          type, previous, file.name));
+                }
+            }
+            java.add(file.name, file.javaTypes, file.javaFiles, collisions);
+            js.add(file.name, file.types(file.js), ImmutableList.of(file.js), collisions);
+            dart.add(file.name, file.types(file.dart), ImmutableList.of(file.dart), collisions);
+        }
+        if (!collisions.isEmpty()) {
+            throw newIllegalStateException(
+                    "Generated files collide:%n%s", String.join(lineSeparator(), collisions)
+            );
+        }
+        return new GeneratedFilePlan(java.build(), js.build(), dart.build());
+    }
+
+    private static Path path(io.spine.code.fs.AbstractFileName<?> fileName) {
+        return Paths.get(fileName.value());
+    }
+
+    /**
+     * Obtains the Java source files of the types.
+     */
+    public Targets<SourceFile> java() {
+        return java;
+    }
+
+    /**
+     * Obtains the JavaScript files of the types.
+     */
+    public Targets<io.spine.tools.js.fs.FileName> js() {
+        return js;
+    }
+
+    /**
+     * Obtains the Dart files of the types.
+     */
+    public Targets<io.spine.tools.dart.fs.FileName> dart() {
+        return dart;
+    }
+
+    /**
+     * The files generated for one language.
+     *
+     * @param <F>
+     *         the type of the generated file references
+     */
+    public static final class Targets<F> {
+
+        private final ImmutableMap<String, F> byType;
+        private final ImmutableSet<Path> files;
+        private final ImmutableSet<Path> directories;
+
+        private Targets(ImmutableMap<String, F> byType,
+                        ImmutableSet<Path> files,
+                        ImmutableSet<Path> directories) {
+            this.byType = byType;
+            this.files = files;
+            this.directories = directories;
+        }
+
+        /**
+         * Obtains the files declaring the types by full Protobuf names of the types.
+         */
+        public ImmutableMap<String, F> byType() {
+            return byType;
+        }
+
+        /**
+         * Obtains the relative paths of all the generated files.
+         *
+         * <p>Includes the files which do not declare any type by themselves,
+         * such as {@code MessageOrBuilder} interfaces in Java.
+         */
+        public ImmutableSet<Path> files() {
+            return files;
+        }
+
+        /**
+         * Obtains the relative paths of the directories containing the generated files.
+         */
+        public ImmutableSet<Path> directories() {
+            return directories;
+        }
+    }
+
+    /**
+     * The files generated from one proto file.
+     */
+    private static final class FileTargets {
+
+        private final String name;
+        private final Map<String, SourceFile> javaTypes = new LinkedHashMap<>();
+        private final List<SourceFile> javaFiles = new ArrayList<>();
+        private final io.spine.tools.js.fs.FileName js;
+        private final io.spine.tools.dart.fs.FileName dart;
+
+        private FileTargets(FileDescriptor file) {
+            this.name = file.getName();
+            javaFiles.add(SourceFile.forOuterClassOf(file.toProto()));
+            for (var enumType : file.getEnumTypes()) {
+                javaTypes.put(enumType.getFullName(), SourceFile.forEnum(enumType));
+            }
+            for (var message : file.getMessageTypes()) {
+                var messageFile = SourceFile.forMessage(message);
+                addMessage(message, messageFile);
+                javaFiles.add(SourceFile.forMessageOrBuilder(message));
+            }
+            for (var service : file.getServices()) {
+                javaTypes.put(service.getFullName(), SourceFile.forService(service));
+            }
+            javaFiles.addAll(javaTypes.values());
+            this.js = io.spine.tools.js.fs.FileName.from(file);
+            this.dart = io.spine.tools.dart.fs.FileName.relative(file);
+        }
+
+        /**
+         * Adds the message with its nested types, which all belong to the file of
+         * the top-level message.
+         */
+        private void addMessage(Descriptor message, SourceFile topLevelFile) {
+            javaTypes.put(message.getFullName(), topLevelFile);
+            for (var enumType : message.getEnumTypes()) {
+                javaTypes.put(enumType.getFullName(), topLevelFile);
+            }
+            for (var nested : message.getNestedTypes()) {
+                addMessage(nested, topLevelFile);
+            }
+        }
+
+        /**
+         * Maps all the types of the proto file to the given file generated from it.
+         */
+        private <F> Map<String, F> types(F file) {
+            var result = new LinkedHashMap<String, F>(javaTypes.size());
+            for (var type : javaTypes.keySet()) {
+                result.put(type, file);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Merges the files of one language planned for separate proto files.
+     */
+    private static final class Merger<F> {
+
+        private final Function<F, Path> path;
+        private final Map<String, F> byType = new LinkedHashMap<>();
+        private final Map<Path, String> origins = new LinkedHashMap<>();
+
+        private Merger(Function<F, Path> path) {
+            this.path = path;
+        }
+
+        /**
+         * Adds the files generated from the proto file with the given name.
+         *
+         * <p>Reports a collision if a file is also generated from another proto file.
+         */
+        private void add(String protoFile,
+                         Map<String, F> types,
+                         Iterable<F> files,
+                         List<String> collisions) {
+            for (var file : files) {
+                var filePath = path.apply(file);
+                var previous = origins.putIfAbsent(filePath, protoFile);
+                if (previous != null && !previous.equals(protoFile)) {
+                    collisions.add(format("The file `%s` is generated from `%s` and `%s`.",
+                                          filePath, previous, protoFile));
+                }
+            }
+            types.forEach(byType::putIfAbsent);
+        }
+
+        private Targets<F> build() {
+            var files = ImmutableSet.copyOf(origins.keySet());
+            var directories = files.stream()
+                    .map(Path::getParent)
+                    .filter(Objects::nonNull)
+                    .collect(toImmutableSet());
+            return new Targets<>(ImmutableMap.copyOf(byType), files, directories);
+        }
+    }
+}
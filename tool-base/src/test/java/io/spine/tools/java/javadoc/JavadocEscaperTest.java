@@ -32,6 +32,9 @@ import io.spine.testing.UtilityClassTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static io.spine.tools.java.javadoc.JavadocEscaper.escape;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -78,6 +81,27 @@ class JavadocEscaperTest extends UtilityClassTest<JavadocEscaper> {
                      escape(EscapeSequence.BACK_SLASH.getUnescaped()));
     }
 
+    @Test
+    @DisplayName("escape overlapping comment sequences")
+    void escape_overlapping_comment_sequences() {
+        assertEquals("", escape(""));
+        assertEquals("&#47;", escape("/"));
+        assertEquals("&#47;*&#47;", escape("/*/"));
+        assertEquals("a/&#42;b*&#47;c", escape("a/*b*/c"));
+    }
+
+    @Test
+    @DisplayName("write the escaped text to an `Appendable`")
+    void write_to_appendable() throws IOException {
+        var text = "Use `<T>` & @see {@link Foo} \\ */ ".repeat(1_000);
+        var out = new StringWriter();
+
+        escape(text, out);
+
+        assertEquals(escape(text), out.toString());
+        assertEquals(text.length() + 1_000 * 26, out.toString().length());
+    }
+
     @Override
     protected void configure(NullPointerTester tester) {
         super.configure(tester);
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.code
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.shouldBe
+import java.io.StringWriter
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`CodeBuffer` should")
+internal class CodeBufferSpec {
+
+    private val nl = System.lineSeparator()
+
+    @Test
+    fun `append lines at the current indentation`() {
+        val buffer = CodeBuffer(Indent.of2().at(0))
+            .line("class Foo {")
+            .shiftRight()
+            .line(Line.of("val x = 0"))
+            .emptyLine()
+            .line("")
+            .shiftLeft()
+            .line("}")
+
+        buffer.text() shouldBe "class Foo {${nl}  val x = 0$nl$nl$nl}$nl"
+    }
+
+    @Test
+    fun `re-indent lines like 'adjustLevelBy'`() {
+        val lines = listOf(
+            IndentedLine.of(Indent.of4().at(1), "a();"),
+            IndentedLine.of(Indent.of4().at(2), "b();")
+        )
+        val buffer = CodeBuffer(Indent.of4())
+
+        buffer.lines(lines, 2)
+
+        buffer.text() shouldBe lines.joinToString(separator = nl, postfix = nl) {
+            it.adjustLevelBy(2).text()
+        }
+    }
+
+    @Test
+    fun `not indent a line with empty code`() {
+        val line = IndentedLine.of(Indent.of2().at(1), "")
+
+        CodeBuffer(Indent.of2()).line(line, 1).text() shouldBe nl
+    }
+
+    @Test
+    fun `reject shifting a line below zero`() {
+        val line = IndentedLine.of(Indent.of2().at(1), "a();")
+        shouldThrow<IllegalArgumentException> {
+            CodeBuffer(Indent.of2()).line(line, -2)
+        }
+    }
+
+    @Test
+    fun `be reused after clearing`() {
+        val buffer = CodeBuffer(Indent.of2().at(1))
+        buffer.shiftRight().line("first")
+        val out = StringWriter()
+        buffer.appendTo(out)
+
+        buffer.clear()
+        buffer.line("second")
+
+        out.toString() shouldBe "    first$nl"
+        buffer.text() shouldBe "  second$nl"
+        buffer.length() shouldBe buffer.text().length
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.code
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.shouldBe
+import java.io.ByteArrayOutputStream
+import java.nio.channels.Channels
+import java.nio.file.Path
+import kotlin.io.path.readText
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`CodeWriter` should")
+internal class CodeWriterSpec {
+
+    private val nl = System.lineSeparator()
+
+    @Test
+    fun `write a file with a comment header`(@TempDir dir: Path) {
+        val file = dir.resolve("Foo.java")
+
+        CodeWriter.to(file, Indent.of4()).use {
+            it.header(Java, listOf("Generated code.", "Do not edit."))
+                .emptyLine()
+                .line("class Foo {")
+                .shiftRight()
+                .line(Line.of("int x;"))
+                .shiftLeft()
+                .line("}")
+        }
+
+        file.readText() shouldBe
+                "${Java.comment("Generated code.")}$nl${Java.comment("Do not edit.")}$nl" +
+                "${nl}class Foo {$nl    int x;$nl}$nl"
+    }
+
+    @Test
+    fun `encode chars split between buffers into UTF-8`() {
+        val out = ByteArrayOutputStream()
+        val text = "Привет, 🌍! ".repeat(100)
+
+        CodeWriter.to(Channels.newChannel(out), Indent.of2(), 5).use {
+            it.line(text)
+                .write(Line.of(text))
+        }
+
+        out.toString(Charsets.UTF_8) shouldBe "$text$nl$text"
+    }
+
+    @Test
+    fun `write lines and buffers as they are`() {
+        val out = ByteArrayOutputStream()
+        val buffer = CodeBuffer(Indent.of2()).line("a();").line("b();")
+        val line = IndentedLine.of(Indent.of2().at(1), "c();")
+        val empty = IndentedLine.of(Indent.of2().at(1), "")
+
+        CodeWriter.to(Channels.newChannel(out), Indent.of2(), 16).use {
+            it.write(buffer)
+                .line(line, 1)
+                .line(empty, 1)
+        }
+
+        out.toString(Charsets.UTF_8) shouldBe
+                buffer.text() + line.adjustLevelBy(1).text() + nl + nl
+    }
+
+    @Test
+    fun `reject writing after closing`() {
+        val writer = CodeWriter.to(Channels.newChannel(ByteArrayOutputStream()), Indent.of2())
+        writer.close()
+        writer.close()
+
+        shouldThrow<IllegalStateException> {
+            writer.line("late")
+        }
+    }
+}
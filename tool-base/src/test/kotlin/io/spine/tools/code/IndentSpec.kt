@@ -29,6 +29,7 @@ package io.spine.tools.code
 import com.google.common.testing.EqualsTester
 import io.kotest.assertions.throwables.shouldThrow
 import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
 
@@ -44,6 +45,12 @@ internal class IndentSpec {
         indent.text() shouldBe " ".repeat(6)
     }
 
+    @Test
+    fun `create the text of indentation once`() {
+        Indent.of(4).at(3).text() shouldBeSameInstanceAs Indent.of(4).at(3).text()
+        Indent.of(3).at(100).text() shouldBe " ".repeat(300)
+    }
+
     @Test
     fun `reject a negative level`() {
         shouldThrow<IllegalArgumentException> { Indent.of(2).at(-1) }
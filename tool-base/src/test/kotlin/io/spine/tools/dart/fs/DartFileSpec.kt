@@ -27,14 +27,17 @@
 package io.spine.tools.dart.fs
 
 import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.shouldBe
 import io.spine.tools.fs.DirectoryPattern
 import io.spine.tools.fs.ExternalModule
 import io.spine.tools.fs.ExternalModules
 import java.nio.file.Path
 import kotlin.io.path.createDirectories
 import kotlin.io.path.readLines
+import kotlin.io.path.readText
 import kotlin.io.path.writeText
 import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.io.TempDir
 
@@ -83,11 +86,113 @@ internal class DartFileSpec {
             ExternalModule("mymod", DirectoryPattern.listOf("foo"))
         )
 
-        file.resolveImports(libPath, modules)
+        file.resolveImportsAndCount(libPath, modules) shouldBe 1
 
         path.readLines() shouldContainExactly listOf(
             "import 'package:mymod/foo/bar.dart' as b;",
             "void main() {}"
         )
     }
+
+    @Test
+    fun `resolve imports in all Dart files of a tree`(@TempDir libPath: Path) {
+        val sub = libPath.resolve("sub").createDirectories()
+        val resolvable = sub.resolve("a.dart").apply {
+            writeText("import '../foo/bar.dart' as b;\nimport '../foo/baz.dart' as z;\n")
+        }
+        val unchanged = sub.resolve("b.dart").apply {
+            writeText("import '../other/bar.dart' as b;\n")
+        }
+        unchanged.toFile().setLastModified(1_000L)
+        val notDart = sub.resolve("c.txt").apply {
+            writeText("import '../foo/bar.dart' as b;\n")
+        }
+        val modules = ExternalModules(
+            ExternalModule("mymod", DirectoryPattern.listOf("foo"))
+        )
+
+        val result = DartFile.importResolver(modules).resolve(libPath, libPath)
+
+        result.filesScanned() shouldBe 2
+        result.filesRewritten() shouldBe 1
+        result.importsResolved() shouldBe 2
+        resolvable.readLines() shouldContainExactly listOf(
+            "import 'package:mymod/foo/bar.dart' as b;",
+            "import 'package:mymod/foo/baz.dart' as z;"
+        )
+        unchanged.toFile().lastModified() shouldBe 1_000L
+        notDart.readLines() shouldContainExactly listOf("import '../foo/bar.dart' as b;")
+    }
+
+    @Nested
+    inner class `resolve header imports in streaming mode` {
+
+        private val modules = ExternalModules(
+            ExternalModule("mymod", DirectoryPattern.listOf("foo"))
+        )
+
+        @Test
+        fun `copying the rest of the file as is`(@TempDir libPath: Path) {
+            val sub = libPath.resolve("sub").createDirectories()
+            val path = sub.resolve("file.dart")
+            val body = "class Foo {}\r\n// import '../foo/late.dart' as l;\r\n" + "x".repeat(10_000)
+            path.writeText(
+                "// Generated code.\r\n\r\nimport '../foo/bar.dart' as b;\r\n" +
+                        "import 'dart:core' as core;\r\n" + body
+            )
+
+            val resolved = DartFile.read(path).resolveHeaderImports(libPath, modules)
+
+            resolved shouldBe 1
+            path.readText() shouldBe
+                    "// Generated code.\r\n\r\nimport 'package:mymod/foo/bar.dart' as b;\r\n" +
+                    "import 'dart:core' as core;\r\n" + body
+        }
+
+        @Test
+        fun `including block comments`(@TempDir libPath: Path) {
+            val path = libPath.resolve("file.dart")
+            val header = """
+                /*
+                 Generated code. Do not edit.
+                import '../foo/old.dart' as o;
+                */
+                /* The import
+                to resolve: */
+                import '../foo/bar.dart' as b;
+                """.trimIndent()
+            path.writeText("$header\nclass Foo {}\n")
+
+            val resolved = DartFile.read(path).resolveHeaderImports(libPath, modules)
+
+            resolved shouldBe 1
+            path.readText() shouldBe header
+                .replace("'../foo/bar.dart'", "'package:mymod/foo/bar.dart'") +
+                    "\nclass Foo {}\n"
+        }
+
+        @Test
+        fun `not writing the file without resolved imports`(@TempDir libPath: Path) {
+            val path = libPath.resolve("file.dart")
+            path.writeText("import '../other/bar.dart' as b;\nclass Foo {}\n")
+            path.toFile().setLastModified(1_000L)
+
+            DartFile.read(path).resolveHeaderImports(libPath, modules) shouldBe 0
+
+            path.toFile().lastModified() shouldBe 1_000L
+        }
+
+        @Test
+        fun `for all files of a tree`(@TempDir libPath: Path) {
+            val sub = libPath.resolve("sub").createDirectories()
+            val path = sub.resolve("a.dart").apply {
+                writeText("import '../foo/bar.dart' as b;")
+            }
+
+            val result = DartFile.importResolver(modules).headersOnly().resolve(libPath, libPath)
+
+            result.importsResolved() shouldBe 1
+            path.readText() shouldBe "import 'package:mymod/foo/bar.dart' as b;"
+        }
+    }
 }
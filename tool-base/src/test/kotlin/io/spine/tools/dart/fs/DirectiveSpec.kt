@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.dart.fs
+
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.spine.tools.dart.fs.Directive.Kind.EXPORT
+import io.spine.tools.dart.fs.Directive.Kind.IMPORT
+import io.spine.tools.dart.fs.Directive.Kind.PART
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`Directive` should")
+internal class DirectiveSpec {
+
+    @Test
+    fun `scan an import with a prefix`() {
+        val directive = scan("import '../foo/bar.dart' as b;")
+
+        directive.kind() shouldBe IMPORT
+        directive.uri() shouldBe "../foo/bar.dart"
+        directive.prefix() shouldBe "b"
+        directive.isDeferred() shouldBe false
+        directive.shown().shouldBeEmpty()
+        directive.hidden().shouldBeEmpty()
+        directive.isResolvable() shouldBe true
+    }
+
+    @Test
+    fun `scan an import without a prefix in double quotes`() {
+        val directive = scan("import \"foo.dart\";")
+
+        directive.uri() shouldBe "foo.dart"
+        directive.prefix().shouldBeNull()
+    }
+
+    @Test
+    fun `scan a deferred import with combinators`() {
+        val directive = scan("  import 'a.dart' deferred as a show Foo, Bar hide Baz; // Note.")
+
+        directive.isDeferred() shouldBe true
+        directive.prefix() shouldBe "a"
+        directive.shown() shouldContainExactly listOf("Foo", "Bar")
+        directive.hidden() shouldContainExactly listOf("Baz")
+    }
+
+    @Test
+    fun `scan an export with combinators`() {
+        val directive = scan("export 'src/\$types.dart' hide \$Internal show Public;")
+
+        directive.kind() shouldBe EXPORT
+        directive.uri() shouldBe "src/\$types.dart"
+        directive.shown() shouldContainExactly listOf("Public")
+        directive.hidden() shouldContainExactly listOf("\$Internal")
+        directive.isResolvable() shouldBe true
+    }
+
+    @Test
+    fun `scan a part which is not resolvable`() {
+        val directive = scan("part 'part.dart';")
+
+        directive.kind() shouldBe PART
+        directive.isResolvable() shouldBe false
+    }
+
+    @Test
+    fun `not resolve imports with a scheme`() {
+        scan("import 'dart:core' as core;").isResolvable() shouldBe false
+        scan("import 'package:foo/bar.dart';").isResolvable() shouldBe false
+    }
+
+    @Test
+    fun `reject lines which are not directives`() {
+        listOf(
+            "",
+            "void main() {}",
+            "// import 'a.dart';",
+            "imports 'a.dart';",
+            "part of 'lib.dart';",
+            "import 'a.dart'",
+            "import '' as a;",
+            "import 'a.dart as a;",
+            "import 'a.dart' deferred;",
+            "import 'a.dart' show A as a;",
+            "export 'a.dart' as a;",
+            "part 'a.dart' show A;",
+            "import 'a.dart' as 1a;",
+            "import 'a.dart'; void main() {}",
+            "import 'a.dart' if (dart.library.io) 'b.dart';",
+        ).forEach {
+            Directive.scan(it).shouldBeNull()
+        }
+    }
+
+    @Test
+    fun `replace the URI keeping the rest of the line`() {
+        val directive = scan("export \"../a.dart\" show A;")
+
+        directive.withUri("package:m/a.dart") shouldBe "export \"package:m/a.dart\" show A;"
+    }
+
+    private fun scan(line: String): Directive = Directive.scan(line).shouldNotBeNull()
+}
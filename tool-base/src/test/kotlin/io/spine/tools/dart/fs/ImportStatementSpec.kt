@@ -45,9 +45,22 @@ internal class ImportStatementSpec {
     @Test
     fun `tell if a line is an import statement`() {
         ImportStatement.isDeclaredIn("import 'a/b.dart' as x;") shouldBe true
+        ImportStatement.isDeclaredIn("export 'a/b.dart' show X;") shouldBe true
+        ImportStatement.isDeclaredIn("import 'package:a/b.dart' as x;") shouldBe false
+        ImportStatement.isDeclaredIn("part 'a/b.dart';") shouldBe false
         ImportStatement.isDeclaredIn("void main() {}") shouldBe false
     }
 
+    @Test
+    fun `obtain the statement declared in a line`(@TempDir libPath: Path) {
+        val file = dartFileWith(libPath, "void main() {}")
+        val text = "import 'a/b.dart' as x;"
+
+        ImportStatement.declaredIn(file, text)?.text() shouldBe text
+        ImportStatement.declaredIn(file, "import 'package:a/b.dart' as x;") shouldBe null
+        ImportStatement.declaredIn(file, "void main() {}") shouldBe null
+    }
+
     @Test
     fun `reject blank text`(@TempDir libPath: Path) {
         val file = dartFileWith(libPath, "void main() {}")
@@ -104,6 +117,19 @@ internal class ImportStatementSpec {
         resolved.text() shouldBe "import 'package:mymod/foo/bar.dart' as b;"
     }
 
+    @Test
+    fun `rewrite an export keeping its combinators`(@TempDir libPath: Path) {
+        val file = dartFileInSubDir(libPath)
+        val statement = ImportStatement.`in`(file, "export \"../foo/bar.dart\" show Bar hide Baz;")
+        val modules = ExternalModules(
+            ExternalModule("mymod", DirectoryPattern.listOf("foo"))
+        )
+
+        val resolved = statement.resolve(libPath, modules)
+
+        resolved.text() shouldBe "export \"package:mymod/foo/bar.dart\" show Bar hide Baz;"
+    }
+
     @Test
     fun `support equality`(@TempDir libPath: Path) {
         val file = dartFileWith(libPath, "void main() {}")
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.fs
+
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`DirectoryReference` should")
+internal class DirectoryReferenceSpec {
+
+    @Test
+    fun `split its elements once`() {
+        val reference = DirectoryReference.of("foo/bar/baz")
+
+        reference.elements() shouldContainExactly listOf("foo", "bar", "baz")
+        reference.elements() shouldBeSameInstanceAs reference.elements()
+        reference.elementCount() shouldBe 3
+    }
+
+    @Test
+    fun `tell if it starts with whole elements of another reference`() {
+        val reference = DirectoryReference.of("foo/bar/baz")
+
+        reference.startsWith(DirectoryReference.of("foo/bar")) shouldBe true
+        reference.startsWith(reference) shouldBe true
+        reference.startsWith(DirectoryReference.of("foo/ba")) shouldBe false
+        reference.startsWith(DirectoryReference.of("foo/bar/baz/qux")) shouldBe false
+    }
+
+    @Test
+    fun `be ordered by elements`() {
+        val nested = DirectoryReference.of("foo/bar")
+        val dashed = DirectoryReference.of("foo-bar")
+        val parent = DirectoryReference.of("foo")
+
+        listOf(dashed, nested, parent).sortedWith(DirectoryReference.elementOrder()) shouldBe
+                listOf(parent, nested, dashed)
+    }
+
+    @Test
+    fun `be obtained once from a file reference`() {
+        val file = FileReference.of("../foo/bar/file.js")
+
+        file.directory() shouldBe DirectoryReference.of("foo/bar")
+        file.directory() shouldBeSameInstanceAs file.directory()
+        file.elements() shouldBeSameInstanceAs file.elements()
+    }
+}
@@ -32,6 +32,7 @@ import io.kotest.matchers.collections.shouldHaveSize
 import io.kotest.matchers.shouldBe
 import io.kotest.matchers.string.shouldContain
 import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 
 @DisplayName("`ExternalModules` should")
@@ -88,4 +89,53 @@ internal class ExternalModulesSpec {
     fun `have a hash code consistent with the modules`() {
         ExternalModules(moduleA).hashCode() shouldBe ExternalModules(moduleA).hashCode()
     }
+
+    @Nested
+    inner class `find a module providing a file` {
+
+        private val modules = ExternalModules(ExternalModule.predefinedModules())
+
+        @Test
+        fun `in the same way as the modules do`() {
+            val references = listOf(
+                "client/parser/index.js",
+                "client/parser/nested/index.js",
+                "parser/index.js",
+                "proto/spine/core/event_pb.js",
+                "spine/core/event_pb.js",
+                "core/event_pb.js",
+                "core/nested/event_pb.js",
+                "spine/index.js",
+                "proto/spine/index.js",
+                "spine/users/user_pb.js",
+                "users/nested/deep/user_pb.js",
+                "google/protobuf/any_pb.js",
+                "protobuf/any_pb.js",
+                "unknown/file.js",
+                "file.js"
+            ).map { FileReference.of(it) }
+
+            references.forEach { ref ->
+                val expected = modules.asList().firstOrNull { it.provides(ref) }
+                modules.providing(ref).orElse(null) shouldBe expected
+            }
+        }
+
+        @Test
+        fun `preferring the module which goes first`() {
+            val first = ExternalModule("first", DirectoryPattern.listOf("x/y/*"))
+            val second = ExternalModule("second", DirectoryPattern.listOf("y", "y/*"))
+            val ref = FileReference.of("y/file.js")
+
+            ExternalModules(first, second).providing(ref).get() shouldBe first
+            ExternalModules(second, first).providing(ref).get() shouldBe second
+        }
+
+        @Test
+        fun `returning empty result if no module provides the file`() {
+            val ref = FileReference.of("a/b/c.js")
+
+            ExternalModules(moduleB).providing(ref).isPresent shouldBe false
+        }
+    }
 }
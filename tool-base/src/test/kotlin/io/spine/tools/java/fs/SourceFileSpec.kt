@@ -30,6 +30,7 @@ import com.google.common.testing.NullPointerTester
 import com.google.protobuf.DescriptorProtos.DescriptorProto
 import com.google.protobuf.DescriptorProtos.EnumDescriptorProto
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto
+import com.google.protobuf.DescriptorProtos.FileOptions
 import com.google.protobuf.DescriptorProtos.ServiceDescriptorProto
 import com.google.protobuf.Descriptors.Descriptor
 import com.google.protobuf.Descriptors.EnumDescriptor
@@ -179,6 +180,77 @@ internal class SourceFileSpec {
         sourceFile.path() shouldContain Paths.get("SourceFileSpec.java")
     }
 
+    @Nested
+    @DisplayName("is found by the index of the proto file for a")
+    inner class IndexedTypes {
+
+        private val status = EnumDescriptorProto.newBuilder().setName("Status")
+        private val inner = DescriptorProto.newBuilder()
+            .setName("Inner")
+            .addEnumType(status)
+        private val outer = DescriptorProto.newBuilder()
+            .setName("Outer")
+            .addNestedType(inner)
+        private val color = EnumDescriptorProto.newBuilder().setName("Color")
+        private val service = ServiceDescriptorProto.newBuilder().setName("Api")
+        private val file = FileDescriptorProto.newBuilder()
+            .setName("acme/test/index.proto")
+            .setPackage("acme.test")
+            .setOptions(
+                FileOptions.newBuilder()
+                    .setJavaPackage("com.acme")
+                    .setJavaMultipleFiles(true)
+            )
+            .addEnumType(color)
+            .addMessageType(outer)
+            .addService(service)
+            .build()
+
+        @Test
+        fun `top-level message`() {
+            val message = file.getMessageType(0)
+
+            SourceFile.forMessage(message, file).path() shouldBe
+                    Paths.get("com/acme/Outer.java")
+            SourceFile.forMessageOrBuilder(message, file).path() shouldBe
+                    Paths.get("com/acme/OuterOrBuilder.java")
+        }
+
+        @Test
+        fun `top-level enum`() {
+            SourceFile.forEnum(file.getEnumType(0), file).path() shouldBe
+                    Paths.get("com/acme/Color.java")
+        }
+
+        @Test
+        fun `deeply nested enum declared in the file of the top-level message`() {
+            val nestedEnum = file.getMessageType(0).getNestedType(0).getEnumType(0)
+
+            SourceFile.forEnum(nestedEnum, file).path() shouldBe
+                    Paths.get("com/acme/Outer.java")
+        }
+
+        @Test
+        fun `enum equal to the one declared in the file`() {
+            SourceFile.forEnum(status.build(), file).path() shouldBe
+                    Paths.get("com/acme/Outer.java")
+        }
+
+        @Test
+        fun service() {
+            SourceFile.forService(file.getService(0), file).path() shouldBe
+                    Paths.get("com/acme/ApiGrpc.java")
+        }
+
+        @Test
+        fun `message, but not a nested one`() {
+            val nested = file.getMessageType(0).getNestedType(0)
+            shouldThrow<IllegalStateException> {
+                SourceFile.forMessage(nested, file)
+            }
+        }
+    }
+
     @Nested
     @DisplayName("does not exist, reporting a missing definition for a")
     inner class MissingDefinition {
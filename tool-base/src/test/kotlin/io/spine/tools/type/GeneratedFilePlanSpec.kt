@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.type
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto
+import com.google.protobuf.DescriptorProtos.FileOptions
+import com.google.protobuf.DescriptorProtos.ServiceDescriptorProto
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.spine.code.proto.FileSet
+import java.nio.file.Paths
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`GeneratedFilePlan` should")
+internal class GeneratedFilePlanSpec {
+
+    private val multipleFiles = FileDescriptorProto.newBuilder()
+        .setName("acme/multiple.proto")
+        .setPackage("acme")
+        .setOptions(
+            FileOptions.newBuilder()
+                .setJavaPackage("com.acme")
+                .setJavaMultipleFiles(true)
+        )
+        .addMessageType(
+            DescriptorProto.newBuilder()
+                .setName("Task")
+                .addNestedType(DescriptorProto.newBuilder().setName("Step"))
+                .addEnumType(EnumDescriptorProto.newBuilder().setName("Status"))
+        )
+        .addEnumType(EnumDescriptorProto.newBuilder().setName("Priority"))
+        .addService(ServiceDescriptorProto.newBuilder().setName("TaskService"))
+        .build()
+
+    private val outerClass = FileDescriptorProto.newBuilder()
+        .setName("acme/single.proto")
+        .setPackage("acme")
+        .setOptions(
+            FileOptions.newBuilder()
+                .setJavaPackage("com.acme.single")
+                .setJavaOuterClassname("Single")
+        )
+        .addMessageType(DescriptorProto.newBuilder().setName("Note"))
+        .build()
+
+    @Test
+    fun `map all types to Java source files`() {
+        val plan = GeneratedFilePlan.of(FileSet.of(listOf(multipleFiles, outerClass)))
+        val java = plan.java()
+
+        java.byType().mapValues { it.value.path() } shouldBe mapOf(
+            "acme.Priority" to Paths.get("com/acme/Priority.java"),
+            "acme.Task" to Paths.get("com/acme/Task.java"),
+            "acme.Task.Step" to Paths.get("com/acme/Task.java"),
+            "acme.Task.Status" to Paths.get("com/acme/Task.java"),
+            "acme.TaskService" to Paths.get("com/acme/TaskServiceGrpc.java"),
+            "acme.Note" to Paths.get("com/acme/single/Single.java"),
+        )
+        java.files() shouldContainExactlyInAnyOrder listOf(
+            Paths.get("com/acme/Multiple.java"),
+            Paths.get("com/acme/Priority.java"),
+            Paths.get("com/acme/Task.java"),
+            Paths.get("com/acme/TaskOrBuilder.java"),
+            Paths.get("com/acme/TaskServiceGrpc.java"),
+            Paths.get("com/acme/single/Single.java"),
+        )
+        java.directories() shouldContainExactlyInAnyOrder listOf(
+            Paths.get("com/acme"),
+            Paths.get("com/acme/single"),
+        )
+    }
+
+    @Test
+    fun `map all types to JavaScript and Dart files of their proto files`() {
+        val plan = GeneratedFilePlan.of(FileSet.of(listOf(multipleFiles, outerClass)))
+
+        plan.js().byType()["acme.Task.Step"]!!.value() shouldBe "acme/multiple_pb.js"
+        plan.js().byType()["acme.Note"]!!.value() shouldBe "acme/single_pb.js"
+        plan.dart().byType()["acme.TaskService"]!!.value() shouldBe "acme/multiple.pb.dart"
+        plan.dart().directories() shouldContainExactlyInAnyOrder listOf(Paths.get("acme"))
+    }
+
+    @Test
+    fun `report files generated from different proto files`() {
+        val sameOuterClass = outerClass.toBuilder()
+            .setName("acme/other.proto")
+            .clearMessageType()
+            .addMessageType(DescriptorProto.newBuilder().setName("Memo"))
+            .build()
+
+        val exception = shouldThrow<IllegalStateException> {
+            GeneratedFilePlan.of(FileSet.of(listOf(outerClass, sameOuterClass)))
+        }
+
+        exception.message shouldContain "com/acme/single/Single.java"
+    }
+}